@@ -0,0 +1,55 @@
+package com.tripj.jwt;
+
+import com.tripj.domain.user.constant.Role;
+import com.tripj.jwt.service.TokenManager;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증 요청 1건당 accessToken 검증 비용
+ * before: 인터셉터 검증 + 인터셉터 claim 조회 + resolver claim 조회 (매번 키/파서 생성)
+ * after: 미리 만든 키/파서로 한 번만 검증
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TokenVerificationBenchmark {
+
+    private static final String TOKEN_SECRET =
+            "benchmark-secret-key-benchmark-secret-key-benchmark-secret-key-benchmark";
+
+    private TokenManager tokenManager;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        tokenManager = new TokenManager("3600000", "1209600000", TOKEN_SECRET);
+        accessToken = tokenManager.createAccessToken(
+                1L, Role.ROLE_USER, tokenManager.createAccessTokenExpireTime());
+    }
+
+    @Benchmark
+    public Claims before() {
+        parseWithNewParser(accessToken);
+        parseWithNewParser(accessToken);
+        return parseWithNewParser(accessToken);
+    }
+
+    @Benchmark
+    public Claims after() {
+        return tokenManager.getVerifiedClaims(accessToken);
+    }
+
+    private Claims parseWithNewParser(String token) {
+        return Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(TOKEN_SECRET.getBytes(StandardCharsets.UTF_8)))
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+}
@@ -0,0 +1,89 @@
+package com.tripj.api.admin.controller;
+
+import com.tripj.api.admin.dto.ItemCatalogResponse;
+import com.tripj.api.admin.dto.TokenCacheResponse;
+import com.tripj.domain.item.catalog.ItemCatalog;
+import com.tripj.domain.user.constant.Role;
+import com.tripj.global.code.ErrorCode;
+import com.tripj.global.error.exception.ForbiddenException;
+import com.tripj.global.model.RestApiResponse;
+import com.tripj.jwt.service.VerifiedTokenCache;
+import com.tripj.resolver.userinfo.UserInfo;
+import com.tripj.resolver.userinfo.UserInfoDto;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin")
+@Tag(name = "admin", description = "운영 관리 API")
+public class AdminController {
+
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final ItemCatalog itemCatalog;
+
+    @Operation(
+            summary = "토큰 검증 캐시 상태 조회 API",
+            description = "토큰 검증 캐시 사용 여부와 적중률을 조회합니다."
+    )
+    @GetMapping("/token-cache")
+    public RestApiResponse<TokenCacheResponse> getTokenCache(
+            @UserInfo UserInfoDto userInfo) {
+
+        validateAdmin(userInfo);
+        return RestApiResponse.success(tokenCacheResponse());
+    }
+
+    @Operation(
+            summary = "토큰 검증 캐시 사용 여부 변경 API",
+            description = "토큰 검증 캐시를 켜거나 끕니다. 끄면 캐시된 토큰도 비웁니다."
+    )
+    @PutMapping("/token-cache")
+    public RestApiResponse<TokenCacheResponse> updateTokenCache(
+            @RequestParam boolean enabled,
+            @UserInfo UserInfoDto userInfo) {
+
+        validateAdmin(userInfo);
+        verifiedTokenCache.setEnabled(enabled);
+        return RestApiResponse.success(tokenCacheResponse());
+    }
+
+    @Operation(
+            summary = "아이템 카탈로그 상태 조회 API",
+            description = "메모리에 적재된 아이템 카테고리 / 고정 아이템 카탈로그 버전을 조회합니다."
+    )
+    @GetMapping("/item-catalog")
+    public RestApiResponse<ItemCatalogResponse> getItemCatalog(
+            @UserInfo UserInfoDto userInfo) {
+
+        validateAdmin(userInfo);
+        return RestApiResponse.success(ItemCatalogResponse.of(itemCatalog.snapshot(), false));
+    }
+
+    @Operation(
+            summary = "아이템 카탈로그 재적재 API",
+            description = "아이템 카테고리 / 고정 아이템 변경 후 호출하면 이 서버의 카탈로그를 즉시 다시 읽습니다. " +
+                    "다른 서버는 주기적인 변경 확인으로 반영됩니다."
+    )
+    @PostMapping("/item-catalog/reload")
+    public RestApiResponse<ItemCatalogResponse> reloadItemCatalog(
+            @UserInfo UserInfoDto userInfo) {
+
+        validateAdmin(userInfo);
+        boolean reloaded = itemCatalog.reload();
+        return RestApiResponse.success(ItemCatalogResponse.of(itemCatalog.snapshot(), reloaded));
+    }
+
+    private TokenCacheResponse tokenCacheResponse() {
+        return TokenCacheResponse.of(verifiedTokenCache.isEnabled(),
+                verifiedTokenCache.size(), verifiedTokenCache.hitRate());
+    }
+
+    private void validateAdmin(UserInfoDto userInfo) {
+        if (userInfo.getRole() != Role.ROLE_ADMIN) {
+            throw new ForbiddenException(ErrorCode.FORBIDDEN_ADMIN);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.tripj.api.admin.dto;
+
+import com.tripj.domain.item.catalog.ItemCatalogSnapshot;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Schema(description = "아이템 카탈로그 상태 DTO")
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ItemCatalogResponse {
+
+    @Schema(description = "카탈로그 버전", example = "3")
+    private long version;
+
+    @Schema(description = "적재 데이터 fingerprint (sha256)")
+    private String fingerprint;
+
+    @Schema(description = "적재 시각", example = "2024-07-18T10:37:15")
+    private LocalDateTime loadedAt;
+
+    @Schema(description = "아이템 카테고리 수", example = "6")
+    private int itemCateCount;
+
+    @Schema(description = "고정 아이템 수 (미노출 포함)", example = "30")
+    private int fixedItemCount;
+
+    @Schema(description = "이번 요청으로 재적재되었는지 여부", example = "true")
+    private boolean reloaded;
+
+    public static ItemCatalogResponse of(ItemCatalogSnapshot snapshot, boolean reloaded) {
+        return new ItemCatalogResponse(snapshot.getVersion(), snapshot.getFingerprint(),
+                snapshot.getLoadedAt(), snapshot.getItemCates().size(),
+                snapshot.getFixedItems().size(), reloaded);
+    }
+}
@@ -0,0 +1,25 @@
+package com.tripj.api.admin.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@Schema(description = "토큰 검증 캐시 상태 DTO")
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class TokenCacheResponse {
+
+    @Schema(description = "캐시 사용 여부", example = "true")
+    private boolean enabled;
+
+    @Schema(description = "캐시된 토큰 수 (추정치)", example = "1200")
+    private long size;
+
+    @Schema(description = "적중률", example = "0.98")
+    private double hitRate;
+
+    public static TokenCacheResponse of(boolean enabled, long size, double hitRate) {
+        return new TokenCacheResponse(enabled, size, hitRate);
+    }
+}
@@ -3,7 +3,9 @@ package com.tripj.api.login.controller;
 import com.tripj.api.login.dto.RefreshTokenRequest;
 import com.tripj.api.login.dto.TokenResponse;
 import com.tripj.api.login.service.TokenService;
-import com.tripj.domain.user.repository.UserRepository;
+import com.tripj.domain.token.service.TokenRevocationList;
+import com.tripj.global.code.ErrorCode;
+import com.tripj.global.error.exception.AuthenticationException;
 import com.tripj.global.model.RestApiResponse;
 import com.tripj.global.util.AuthorizationHeaderUtils;
 import com.tripj.jwt.service.TokenManager;
@@ -25,7 +27,7 @@ public class TokenController {
 
     private final TokenService tokenService;
     private final TokenManager tokenManager;
-    private final UserRepository userRepository;
+    private final TokenRevocationList tokenRevocationList;
 
 
     @Tag(name = "authentication")
@@ -41,10 +43,13 @@ public class TokenController {
         Claims tokenClaims = tokenManager.getTokenClaims(accessToken);
         Long userId = Long.valueOf((Integer) tokenClaims.get("userId"));
 
-        String refreshToken = userRepository.findRefreshTokenById(userId);
+        // 인터셉터를 거치지 않으므로 로그아웃(폐기) 여부를 여기서 확인
+        if (tokenRevocationList.isRevoked(userId, tokenClaims)) {
+            throw new AuthenticationException(ErrorCode.REVOKED_TOKEN);
+        }
 
         TokenResponse tokenResponseDto
-                = tokenService.createAccessTokenByRefreshToken(refreshToken);
+                = tokenService.createAccessTokenByUserId(userId);
 
         return RestApiResponse.success(tokenResponseDto);
     }
@@ -1,6 +1,7 @@
 package com.tripj.api.login.service;
 
 import com.tripj.api.login.dto.OauthLoginDto;
+import com.tripj.domain.token.service.RefreshTokenService;
 import com.tripj.domain.user.constant.Role;
 import com.tripj.domain.user.constant.UserType;
 import com.tripj.domain.user.model.entity.User;
@@ -13,9 +14,9 @@ import com.tripj.jwt.service.TokenManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-
-import java.util.Optional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 
 @Slf4j
@@ -26,31 +27,29 @@ public class OauthLoginService {
 
     private final UserService userService;
     private final TokenManager tokenManager;
-
+    private final RefreshTokenService refreshTokenService;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 소셜 로그인
+     * 소셜 회원정보 조회(외부 API)는 DB 트랜잭션 밖에서 수행한다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public OauthLoginDto.Response oauthLogin(String accessToken, UserType userType) {
         SocialLoginApiService socialLoginApiService = SocialLoginApiServiceFactory.getSocialLoginApiService(userType); //어떤 social인지
         OAuthAttributes userInfo = socialLoginApiService.getUserInfo(accessToken);
         log.info("userInfo : {}", userInfo);
 
-        JwtTokenDto jwtTokenDto;
-
-        Optional<User> optionalUser = userService.findUserByEmail(userInfo.getEmail());
-        //신규 회원가입
-        if (optionalUser.isEmpty()) {
-            String nickname = userService.generateRandomNickname();
-            User oauthUser = userInfo.toUserEntity(userType, Role.ROLE_USER, nickname);
-            oauthUser = userService.registerUser(oauthUser);
-
-            //토큰 생성
-            jwtTokenDto = tokenManager.createJwtTokenDto(oauthUser.getId(), oauthUser.getRole());
-            oauthUser.updateRefreshToken(jwtTokenDto);
-        } else { //기존 회원일 경우
-            User oauthUser = optionalUser.get();
+        JwtTokenDto jwtTokenDto = transactionTemplate.execute(status -> {
+            //기존 회원 조회, 없으면 신규 회원가입
+            User oauthUser = userService.findOrRegisterUser(userInfo.getEmail(),
+                    () -> userInfo.toUserEntity(userType, Role.ROLE_USER, userService.generateRandomNickname()));
 
             //토큰 생성
-            jwtTokenDto = tokenManager.createJwtTokenDto(oauthUser.getId(), oauthUser.getRole());
-            oauthUser.updateRefreshToken(jwtTokenDto);
-        }
+            JwtTokenDto tokenDto = tokenManager.createJwtTokenDto(oauthUser.getId(), oauthUser.getRole());
+            refreshTokenService.save(oauthUser, tokenDto);
+            return tokenDto;
+        });
 
         /**
          * 반환 타입이 OauthLoginDto.Response이므로 of메소드를 통해 변환
@@ -1,8 +1,12 @@
 package com.tripj.api.login.service;
 
 import com.tripj.api.login.dto.TokenResponse;
+import com.tripj.domain.token.model.entity.RefreshToken;
+import com.tripj.domain.token.service.RefreshTokenService;
 import com.tripj.domain.user.model.entity.User;
-import com.tripj.domain.user.service.UserService;
+import com.tripj.domain.user.repository.UserRepository;
+import com.tripj.global.error.exception.AuthenticationException;
+import com.tripj.global.error.exception.NotFoundException;
 import com.tripj.jwt.constant.GrantType;
 import com.tripj.jwt.dto.JwtTokenDto;
 import com.tripj.jwt.service.TokenManager;
@@ -14,24 +18,29 @@ import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Date;
 
+import static com.tripj.global.code.ErrorCode.E403_NOT_FOUND_REFRESH_TOKEN;
+import static com.tripj.global.code.ErrorCode.E404_NOT_EXISTS_USER;
+
 @Service
-@Transactional
+@Transactional(noRollbackFor = AuthenticationException.class)
 @RequiredArgsConstructor
 public class TokenService {
 
-    private final UserService userService;
+    private final RefreshTokenService refreshTokenService;
+    private final UserRepository userRepository;
     private final TokenManager tokenManager;
 
     public TokenResponse createAccessTokenByRefreshToken(String refreshToken) {
-        User user = userService.findUserByRefreshToken(refreshToken);
+        RefreshToken stored = refreshTokenService.verify(refreshToken);
+        User user = stored.getUser();
+
         Date accessTokenExpirationTime = tokenManager.createAccessTokenExpireTime();
         String accessToken = tokenManager.createAccessToken(user.getId(), user.getRole(), accessTokenExpirationTime);
 
-        // accessToken 재발급시 refreshToken 하루남은 사용자만 update.
-        if (user.getTokenExpirationTime() != null &&
-                Duration.between(LocalDateTime.now(), user.getTokenExpirationTime()).toMillis() < 1000 * 60 * 60 * 24) {
+        // accessToken 재발급시 refreshToken 하루남은 사용자만 교체.
+        if (Duration.between(LocalDateTime.now(), stored.getExpirationTime()).toMillis() < 1000 * 60 * 60 * 24) {
             JwtTokenDto jwtTokenDto = tokenManager.createRefreshTokenDto(user.getId());
-            user.updateRefreshToken(jwtTokenDto);
+            refreshTokenService.rotate(stored, jwtTokenDto);
 
             return TokenResponse.builder()
                     .grantType(GrantType.BEARER.getType())
@@ -48,4 +57,25 @@ public class TokenService {
                 .accessTokenExpireTime(accessTokenExpirationTime)
                 .build();
     }
-}
\ No newline at end of file
+
+    /**
+     * 유효한 refresh token 이 있는 사용자의 accessToken 재발급
+     */
+    public TokenResponse createAccessTokenByUserId(Long userId) {
+        if (!refreshTokenService.hasActiveToken(userId)) {
+            throw new AuthenticationException(E403_NOT_FOUND_REFRESH_TOKEN);
+        }
+
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new NotFoundException(E404_NOT_EXISTS_USER));
+
+        Date accessTokenExpirationTime = tokenManager.createAccessTokenExpireTime();
+        String accessToken = tokenManager.createAccessToken(user.getId(), user.getRole(), accessTokenExpirationTime);
+
+        return TokenResponse.builder()
+                .grantType(GrantType.BEARER.getType())
+                .accessToken(accessToken)
+                .accessTokenExpireTime(accessTokenExpirationTime)
+                .build();
+    }
+}
@@ -0,0 +1,44 @@
+package com.tripj.batch.board;
+
+import com.tripj.domain.board.search.BoardSearchIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BoardBatchScheduler {
+
+    private final BoardDailyJob boardDailyJob;
+    private final PopularBoardJob popularBoardJob;
+    private final BoardSearchIndex boardSearchIndex;
+
+    /**
+     * 매일 새벽 4시 게시글 댓글/좋아요 수를 실제 데이터 기준으로 재집계
+     */
+    @Scheduled(cron = "0 0 4 * * ?")
+    public void runDailyJobBoardCount() {
+        log.info("boardDailyJob count sync batch execute.");
+        boardDailyJob.run();
+    }
+
+    /**
+     * 기동 직후 및 10분마다 인기글 랭킹을 DB 좋아요 수 기준으로 재집계
+     */
+    @Scheduled(fixedDelayString = "${board.popular.reconcile-delay:600000}")
+    public void runPopularBoardJob() {
+        log.info("popularBoardJob reconcile batch execute.");
+        popularBoardJob.run();
+    }
+
+    /**
+     * 다른 서버에서 등록/수정/삭제된 게시글을 검색 색인에 반영
+     */
+    @Scheduled(fixedDelayString = "${board.search.sync-delay:60000}")
+    public void runSearchIndexSync() {
+        boardSearchIndex.resync();
+    }
+
+}
@@ -0,0 +1,29 @@
+package com.tripj.batch.board;
+
+import com.tripj.domain.board.service.BoardService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BoardDailyJob {
+
+    private final BoardService boardService;
+
+    /**
+     * 댓글/좋아요 수 재집계 및 게시글 삭제 로그 정리
+     * LikeCountBuffer 도 다시 센 값을 쓰므로 버퍼를 비우거나 멈추지 않아도 중복 반영되지 않는다.
+     */
+    public void run() {
+        boardService.syncBoardCounts();
+
+        // 검색 색인 동기화(분 단위)가 충분히 지난 삭제 로그 정리
+        int deletions = boardService.purgeBoardDeletions(LocalDateTime.now().minusDays(1));
+        log.info("board deletion log purged. count={}", deletions);
+    }
+
+}
@@ -0,0 +1,19 @@
+package com.tripj.batch.board;
+
+import com.tripj.domain.board.service.BoardService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PopularBoardJob {
+
+    private final BoardService boardService;
+
+    public void run() {
+        boardService.reloadPopularBoards();
+    }
+
+}
@@ -1,15 +1,13 @@
 package com.tripj.batch.item;
 
-import com.tripj.batch.trip.TripDailyJob;
+import com.tripj.domain.item.catalog.ItemCatalog;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.annotation.Profile;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 @Slf4j
 @Component
-//@Profile("batch")
 @RequiredArgsConstructor
 public class ItemBatchScheduler {
 
@@ -24,5 +22,18 @@ public class ItemBatchScheduler {
 //        itemDailyJob.run();
 //    }
 
+    private final ItemCatalog itemCatalog;
+
+    /**
+     * 관리자 데이터(아이템 카테고리, 고정 아이템) 변경 확인 후 카탈로그 재적재
+     * 다른 서버에서 재적재 요청을 받은 경우도 여기서 반영된다.
+     */
+    @Scheduled(fixedDelayString = "${item.catalog.refresh-delay:60000}")
+    public void runCatalogRefresh() {
+        if (itemCatalog.reload()) {
+            log.info("item catalog refreshed. version={}", itemCatalog.snapshot().getVersion());
+        }
+    }
+
 
 }
@@ -0,0 +1,19 @@
+package com.tripj.batch.like;
+
+import com.tripj.domain.like.service.LikeCountBuffer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LikeCountFlushJob {
+
+    private final LikeCountBuffer likeCountBuffer;
+
+    public void run() {
+        likeCountBuffer.flush();
+    }
+
+}
@@ -0,0 +1,23 @@
+package com.tripj.batch.like;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LikedBoardBatchScheduler {
+
+    private final LikeCountFlushJob likeCountFlushJob;
+
+    /**
+     * 1초마다 누적된 게시글 좋아요 수 증감을 반영
+     */
+    @Scheduled(fixedDelayString = "${like.count.flush-delay:1000}")
+    public void runLikeCountFlushJob() {
+        likeCountFlushJob.run();
+    }
+
+}
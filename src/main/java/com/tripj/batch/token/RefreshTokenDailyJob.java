@@ -0,0 +1,38 @@
+package com.tripj.batch.token;
+
+import com.tripj.domain.token.service.RefreshTokenService;
+import com.tripj.domain.token.service.TokenRevocationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenDailyJob {
+
+    private final RefreshTokenService refreshTokenService;
+    private final TokenRevocationService tokenRevocationService;
+
+    @Value("${batch.token.chunk-size:1000}")
+    private int chunkSize;
+
+    /**
+     * chunk 단위로 나눠 삭제 (chunk 마다 커밋해 잠금 시간을 짧게 유지)
+     */
+    public void run() {
+        int total = 0;
+        int deleted;
+        do {
+            deleted = refreshTokenService.purgeExpired(chunkSize);
+            total += deleted;
+        } while (deleted == chunkSize);
+
+        log.info("expired refresh token purged. count={}", total);
+
+        int revocations = tokenRevocationService.purgeExpired();
+        log.info("expired token revocation purged. count={}", revocations);
+    }
+
+}
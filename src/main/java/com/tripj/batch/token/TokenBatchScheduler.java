@@ -0,0 +1,34 @@
+package com.tripj.batch.token;
+
+import com.tripj.domain.token.service.TokenRevocationList;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenBatchScheduler {
+
+    private final RefreshTokenDailyJob refreshTokenDailyJob;
+    private final TokenRevocationList tokenRevocationList;
+
+    /**
+     * 매일 새벽 3시 만료된 refresh token 삭제
+     */
+    @Scheduled(cron = "0 0 3 * * ?")
+    public void runDailyJobPurge() {
+        log.info("refreshTokenDailyJob purge batch execute.");
+        refreshTokenDailyJob.run();
+    }
+
+    /**
+     * 다른 서버에서 추가된 accessToken 폐기 로그 반영
+     */
+    @Scheduled(fixedDelayString = "${token.revocation.sync-delay:5000}")
+    public void runRevocationSync() {
+        tokenRevocationList.sync();
+    }
+
+}
@@ -5,6 +5,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDate;
+
 @Slf4j
 @Component
 @RequiredArgsConstructor
@@ -13,7 +15,7 @@ public class TripDailyJob {
     private final TripService tripService;
 
     public void run() {
-        tripService.changeTripPrevious();
+        tripService.changeTripPrevious(LocalDate.now());
     }
 
 
@@ -0,0 +1,24 @@
+package com.tripj.batch.user;
+
+import com.tripj.domain.user.repository.nickname.TripjNicknameGenerator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserBatchScheduler {
+
+    private final TripjNicknameGenerator nicknameGenerator;
+
+    /**
+     * 다른 서버에서 할당/반납된 닉네임 반영
+     */
+    @Scheduled(fixedDelayString = "${user.nickname.reload-delay:600000}", initialDelayString = "${user.nickname.reload-delay:600000}")
+    public void runNicknameReload() {
+        nicknameGenerator.load();
+    }
+
+}
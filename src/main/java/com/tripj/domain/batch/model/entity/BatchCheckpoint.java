@@ -0,0 +1,71 @@
+package com.tripj.domain.batch.model.entity;
+
+import com.tripj.domain.common.entity.BaseTimeEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 배치 진행 위치 (chunk 단위로 커밋해 중단된 배치를 이어서 실행)
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BatchCheckpoint extends BaseTimeEntity {
+
+    @Id
+    @Column(name = "job_name", length = 50)
+    private String jobName;
+
+    @Column(nullable = false)
+    private LocalDate baseDate;
+
+    /**
+     * 마지막으로 처리한 ID
+     */
+    @Column(nullable = false)
+    private Long lastId;
+
+    @Column(nullable = false)
+    private long processedCount;
+
+    @Column(nullable = false)
+    private boolean completed;
+
+    public static BatchCheckpoint newBatchCheckpoint(String jobName, LocalDate baseDate) {
+        BatchCheckpoint checkpoint = new BatchCheckpoint();
+        checkpoint.jobName = jobName;
+        checkpoint.restart(baseDate);
+        return checkpoint;
+    }
+
+    /**
+     * 같은 기준일의 중단된 배치면 이어서, 아니면 처음부터 실행
+     */
+    public void start(LocalDate baseDate) {
+        if (!this.baseDate.equals(baseDate) || completed) {
+            restart(baseDate);
+        }
+    }
+
+    public void advance(Long lastId, int processed) {
+        this.lastId = lastId;
+        this.processedCount += processed;
+    }
+
+    public void complete() {
+        this.completed = true;
+    }
+
+    private void restart(LocalDate baseDate) {
+        this.baseDate = baseDate;
+        this.lastId = 0L;
+        this.processedCount = 0;
+        this.completed = false;
+    }
+}
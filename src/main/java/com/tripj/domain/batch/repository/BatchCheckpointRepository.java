@@ -0,0 +1,10 @@
+package com.tripj.domain.batch.repository;
+
+import com.tripj.domain.batch.model.entity.BatchCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface BatchCheckpointRepository extends JpaRepository<BatchCheckpoint, String> {
+
+}
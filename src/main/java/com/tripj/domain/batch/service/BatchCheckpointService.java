@@ -0,0 +1,58 @@
+package com.tripj.domain.batch.service;
+
+import com.tripj.domain.batch.model.entity.BatchCheckpoint;
+import com.tripj.domain.batch.repository.BatchCheckpointRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class BatchCheckpointService {
+
+    private final BatchCheckpointRepository batchCheckpointRepository;
+
+    /**
+     * 배치 시작 (중단된 같은 기준일 배치가 있으면 마지막 처리 ID 부터)
+     */
+    public BatchCheckpoint start(String jobName, LocalDate baseDate) {
+        BatchCheckpoint checkpoint = batchCheckpointRepository.findById(jobName)
+                .orElseGet(() -> batchCheckpointRepository.save(
+                        BatchCheckpoint.newBatchCheckpoint(jobName, baseDate)));
+        checkpoint.start(baseDate);
+        return checkpoint;
+    }
+
+    /**
+     * chunk 처리 결과 기록 (chunk 와 같은 트랜잭션에서 호출)
+     */
+    public void advance(String jobName, Long lastId, int processed) {
+        getCheckpoint(jobName).advance(lastId, processed);
+    }
+
+    public void complete(String jobName) {
+        getCheckpoint(jobName).complete();
+    }
+
+    /**
+     * 한 번만 실행하는 작업(데이터 변환 등) 완료 여부
+     */
+    @Transactional(readOnly = true)
+    public boolean isCompleted(String jobName) {
+        return batchCheckpointRepository.findById(jobName)
+                .map(BatchCheckpoint::isCompleted)
+                .orElse(false);
+    }
+
+    public void markCompleted(String jobName) {
+        start(jobName, LocalDate.now()).complete();
+    }
+
+    private BatchCheckpoint getCheckpoint(String jobName) {
+        return batchCheckpointRepository.findById(jobName)
+                .orElseThrow(() -> new IllegalStateException("batch checkpoint not started. job=" + jobName));
+    }
+}
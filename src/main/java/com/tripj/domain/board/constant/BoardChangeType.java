@@ -0,0 +1,10 @@
+package com.tripj.domain.board.constant;
+
+public enum BoardChangeType {
+    CREATED,
+    UPDATED,
+    DELETED,
+    COMMENT_CHANGED,
+    LIKE_CHANGED,
+    IMAGE_CHANGED
+}
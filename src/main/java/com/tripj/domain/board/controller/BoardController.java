@@ -6,6 +6,7 @@ import com.tripj.domain.board.model.dto.request.GetBoardSearchRequest;
 import com.tripj.domain.board.model.dto.response.*;
 import com.tripj.domain.board.service.BoardService;
 import com.tripj.global.code.ErrorCode;
+import com.tripj.global.model.CursorSlice;
 import com.tripj.global.model.RestApiResponse;
 import com.tripj.resolver.userinfo.UserInfo;
 import com.tripj.resolver.userinfo.UserInfoDto;
@@ -14,7 +15,6 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Slice;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.annotation.Validated;
@@ -103,11 +103,14 @@ public class BoardController {
             description = "게시글 상세조회시 댓글을 조회 합니다."
     )
     @GetMapping("/{boardId}/comments")
-    public RestApiResponse<List<GetBoardCommentResponse>> getBoardComment(
-            @PathVariable Long boardId) {
+    public RestApiResponse<CursorSlice<GetBoardCommentResponse>> getBoardComment(
+            @PathVariable Long boardId,
+            @Parameter(description = "이전 페이지 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @PageableDefault(size = 20) Pageable pageable) {
 
         return RestApiResponse.success(
-                boardService.getBoardComment(boardId));
+                boardService.getBoardComment(boardId, GetBoardRequest.of(cursor), pageable));
     }
 
     @Operation(
@@ -115,12 +118,13 @@ public class BoardController {
             description = "게시글(후기,질문,꿀팁) 리스트 조회 무한스크롤 합니다."
     )
     @GetMapping("/scroll")
-    public RestApiResponse<Slice<GetBoardResponse>> getBoardListScroll(
-            @RequestParam(required = false) Long lastBoardId,
+    public RestApiResponse<CursorSlice<GetBoardResponse>> getBoardListScroll(
+            @Parameter(description = "이전 페이지 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
             @PageableDefault(size = 5) Pageable pageable) {
 
-        GetBoardRequest request = GetBoardRequest.of(lastBoardId);
-        Slice<GetBoardResponse> getBoardList =
+        GetBoardRequest request = GetBoardRequest.of(cursor);
+        CursorSlice<GetBoardResponse> getBoardList =
                 boardService.getBoardListScroll(request, pageable);
 
         return RestApiResponse.success(getBoardList);
@@ -131,10 +135,14 @@ public class BoardController {
             description = "게시글(후기,질문,꿀팁) 리스트 조회 합니다."
     )
     @GetMapping("")
-    public RestApiResponse<List<GetBoardResponse>> getBoardList(
-            @RequestParam Long boardCateId) {
+    public RestApiResponse<CursorSlice<GetBoardResponse>> getBoardList(
+            @RequestParam Long boardCateId,
+            @Parameter(description = "이전 페이지 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @PageableDefault(size = 10) Pageable pageable) {
 
-        return RestApiResponse.success(boardService.getBoardList(boardCateId));
+        return RestApiResponse.success(
+                boardService.getBoardList(boardCateId, GetBoardRequest.of(cursor), pageable));
     }
 
     @Operation(
@@ -142,30 +150,40 @@ public class BoardController {
             description = "최신글 리스트 조회 합니다."
     )
     @GetMapping("/latest")
-    public RestApiResponse<List<GetBoardResponse>> getBoardLatestList() {
+    public RestApiResponse<CursorSlice<GetBoardResponse>> getBoardLatestList(
+            @Parameter(description = "이전 페이지 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @PageableDefault(size = 10) Pageable pageable) {
 
-        return RestApiResponse.success(boardService.getBoardLatestList());
+        return RestApiResponse.success(
+                boardService.getBoardLatestList(GetBoardRequest.of(cursor), pageable));
     }
 
     @Operation(
             summary = "인기글 리스트 조회 API",
-            description = "인기글 리스트 조회 합니다."
+            description = "인기글 리스트 조회 합니다. 페이지 사이에 순위가 바뀌면 게시글이 중복되거나 빠질 수 있습니다."
     )
     @GetMapping("/popular")
-    public RestApiResponse<List<GetBoardResponse>> getBoardPopularList() {
+    public RestApiResponse<CursorSlice<GetBoardResponse>> getBoardPopularList(
+            @Parameter(description = "이전 페이지 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @PageableDefault(size = 10) Pageable pageable) {
 
-        return RestApiResponse.success(boardService.getBoardPopularList());
+        return RestApiResponse.success(boardService.getBoardPopularList(cursor, pageable));
     }
 
     @Operation(
             summary = "게시글 전체 검색 조회 API",
-            description = "게시글에서 전체 검색을 합니다."
+            description = "게시글 제목/내용에서 검색어를 관련도순으로 검색 합니다. 페이지 사이에 순위가 바뀌면 게시글이 중복되거나 빠질 수 있습니다."
     )
     @GetMapping("/all")
-    public RestApiResponse<List<GetBoardResponse>> getAllBoardList(
-            @Parameter GetBoardSearchRequest request) {
+    public RestApiResponse<CursorSlice<GetBoardResponse>> getAllBoardList(
+            @Parameter GetBoardSearchRequest request,
+            @Parameter(description = "이전 페이지 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @PageableDefault(size = 10) Pageable pageable) {
 
-        return RestApiResponse.success(boardService.getAllBoardList(request));
+        return RestApiResponse.success(boardService.getAllBoardList(request, cursor, pageable));
     }
 
     @Operation(
@@ -173,11 +191,14 @@ public class BoardController {
             description = "마이페이지에서 내 게시글을 조회 합니다."
     )
     @GetMapping("/my/{userId}")
-    public RestApiResponse<List<GetBoardResponse>> getMyBoardList(
-            @UserInfo UserInfoDto userInfo) {
+    public RestApiResponse<CursorSlice<GetBoardResponse>> getMyBoardList(
+            @UserInfo UserInfoDto userInfo,
+            @Parameter(description = "이전 페이지 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @PageableDefault(size = 10) Pageable pageable) {
 
         return RestApiResponse.success(
-                boardService.getMyBoardList(userInfo.getUserId()));
+                boardService.getMyBoardList(userInfo.getUserId(), GetBoardRequest.of(cursor), pageable));
     }
 
     @Operation(
@@ -185,10 +206,13 @@ public class BoardController {
             description = "마이페이지에서 내 좋아요 조회 합니다."
     )
     @GetMapping("/my/liked/{userId}")
-    public RestApiResponse<List<GetBoardResponse>> getMyLikedBoard(
-            @UserInfo UserInfoDto userInfo) {
+    public RestApiResponse<CursorSlice<GetBoardResponse>> getMyLikedBoard(
+            @UserInfo UserInfoDto userInfo,
+            @Parameter(description = "이전 페이지 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @PageableDefault(size = 10) Pageable pageable) {
         return RestApiResponse.success(
-                boardService.getMyLikedBoard(userInfo.getUserId()));
+                boardService.getMyLikedBoard(userInfo.getUserId(), GetBoardRequest.of(cursor), pageable));
     }
 
 
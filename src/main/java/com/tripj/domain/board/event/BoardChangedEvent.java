@@ -0,0 +1,53 @@
+package com.tripj.domain.board.event;
+
+import com.tripj.domain.board.constant.BoardChangeType;
+import com.tripj.domain.board.model.entity.Board;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 변경 이벤트 (커밋 이후 검색 색인, 상세 조회 캐시 등에 반영)
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class BoardChangedEvent {
+
+    private Long boardId;
+
+    private BoardChangeType changeType;
+
+    private String title;
+
+    private String content;
+
+    private LocalDateTime regTime;
+
+    public static BoardChangedEvent created(Board board) {
+        return new BoardChangedEvent(board.getId(), BoardChangeType.CREATED,
+                board.getTitle(), board.getContent(), board.getRegTime());
+    }
+
+    public static BoardChangedEvent updated(Board board) {
+        return new BoardChangedEvent(board.getId(), BoardChangeType.UPDATED,
+                board.getTitle(), board.getContent(), board.getRegTime());
+    }
+
+    public static BoardChangedEvent deleted(Long boardId) {
+        return new BoardChangedEvent(boardId, BoardChangeType.DELETED, null, null, null);
+    }
+
+    public static BoardChangedEvent commentChanged(Long boardId) {
+        return new BoardChangedEvent(boardId, BoardChangeType.COMMENT_CHANGED, null, null, null);
+    }
+
+    public static BoardChangedEvent likeChanged(Long boardId) {
+        return new BoardChangedEvent(boardId, BoardChangeType.LIKE_CHANGED, null, null, null);
+    }
+
+    public static BoardChangedEvent imageChanged(Long boardId) {
+        return new BoardChangedEvent(boardId, BoardChangeType.IMAGE_CHANGED, null, null, null);
+    }
+}
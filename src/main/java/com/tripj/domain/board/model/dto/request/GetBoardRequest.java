@@ -1,9 +1,6 @@
 package com.tripj.domain.board.model.dto.request;
 
-import com.tripj.domain.board.model.entity.Board;
-import com.tripj.domain.boardcate.model.entity.BoardCate;
-import com.tripj.domain.user.model.entity.User;
-import io.swagger.v3.oas.annotations.media.Schema;
+import com.tripj.global.model.Cursor;
 import jakarta.annotation.Nullable;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -14,10 +11,10 @@ import lombok.Getter;
 public class GetBoardRequest {
 
     @Nullable
-    private Long lastBoardId;
+    private Cursor cursor;
 
-    public static GetBoardRequest of(Long lastBoardId) {
-        return new GetBoardRequest(lastBoardId);
+    public static GetBoardRequest of(String cursor) {
+        return new GetBoardRequest(Cursor.decode(cursor));
     }
 
 }
@@ -1,13 +1,13 @@
 package com.tripj.domain.board.model.dto.response;
 
+import com.querydsl.core.annotations.QueryProjection;
 import io.swagger.v3.oas.annotations.media.Schema;
-import lombok.AccessLevel;
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 
+import java.time.LocalDateTime;
+
 @Getter
 @Schema(description = "게시글 상세 댓글 조회 DTO")
-@AllArgsConstructor(access = AccessLevel.PRIVATE)
 public class GetBoardCommentResponse {
 
     @Schema(description = "댓글 ID", example = "1")
@@ -16,16 +16,31 @@ public class GetBoardCommentResponse {
     @Schema(description = "유저 ID", example = "1")
     private Long userId;
 
+    @Schema(description = "유저 닉네임", example = "다람지기엽지")
+    private String nickname;
+
+    @Schema(description = "유저 프로필 사진",
+            example = "http://t1.kakaocdn.net/account_images/default_profile.jpeg.twg.thumb.R110x110")
+    private String profile;
+
     @Schema(description = "게시글 ID", example = "1")
     private Long boardId;
 
     @Schema(description = "댓글 내용", example = "같이 여행 하실래요?")
     private String content;
 
-    public static GetBoardCommentResponse of(Long userId, Long boardId,
-                                             Long commentId, String content) {
-        return new GetBoardCommentResponse(userId, boardId, commentId, content);
+    @Schema(description = "댓글 등록일", example = "2024-07-18 10:37:15")
+    private LocalDateTime regTime;
+
+    @QueryProjection
+    public GetBoardCommentResponse(Long id, Long userId, String nickname, String profile,
+                                   Long boardId, String content, LocalDateTime regTime) {
+        this.id = id;
+        this.userId = userId;
+        this.nickname = nickname;
+        this.profile = profile;
+        this.boardId = boardId;
+        this.content = content;
+        this.regTime = regTime;
     }
-
-
 }
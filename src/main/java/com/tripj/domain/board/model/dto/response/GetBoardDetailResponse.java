@@ -3,13 +3,11 @@ package com.tripj.domain.board.model.dto.response;
 import com.querydsl.core.annotations.QueryProjection;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Getter;
-import lombok.Setter;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
 @Getter
-@Setter
 @Schema(description = "게시글 상세 조회 DTO")
 public class GetBoardDetailResponse {
 
@@ -52,7 +50,7 @@ public class GetBoardDetailResponse {
     public GetBoardDetailResponse(Long userId, String userName, String profile,
                                   Long boardId, String boardCateName,
                                   String title, String content, LocalDateTime regTime,
-                                  Long commentCnt, Long likeCnt) {
+                                  Long commentCnt, Long likeCnt, List<String> imgUrl) {
         this.userId = userId;
         this.userName = userName;
         this.profile = profile;
@@ -63,5 +61,6 @@ public class GetBoardDetailResponse {
         this.regTime = regTime;
         this.commentCnt = commentCnt;
         this.likeCnt = likeCnt;
+        this.imgUrl = imgUrl;
     }
 }
@@ -0,0 +1,26 @@
+package com.tripj.domain.board.model.dto.response;
+
+import com.querydsl.core.annotations.QueryProjection;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 인기글 랭킹 재집계용 게시글 좋아요 수
+ */
+@Getter
+public class GetBoardLikeCountResponse {
+
+    private Long boardId;
+
+    private LocalDateTime regTime;
+
+    private Long likeCount;
+
+    @QueryProjection
+    public GetBoardLikeCountResponse(Long boardId, LocalDateTime regTime, Long likeCount) {
+        this.boardId = boardId;
+        this.regTime = regTime;
+        this.likeCount = likeCount;
+    }
+}
@@ -9,6 +9,7 @@ import com.tripj.domain.like.model.entity.LikedBoard;
 import com.tripj.domain.user.model.entity.User;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -17,6 +18,12 @@ import static jakarta.persistence.FetchType.*;
 
 @Getter
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_board_reg_time_id", columnList = "reg_time, board_id"),
+        @Index(name = "idx_board_cate_reg_time_id", columnList = "board_cate_id, reg_time, board_id"),
+        @Index(name = "idx_board_user_reg_time_id", columnList = "user_id, reg_time, board_id"),
+        @Index(name = "idx_board_update_time", columnList = "update_time")
+})
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
@@ -51,6 +58,16 @@ public class Board extends BaseTimeEntity {
 
     private String content;
 
+    @Builder.Default
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private Long commentCount = 0L;
+
+    @Builder.Default
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private Long likeCount = 0L;
+
     public static Board newBoard(String title, String content,
                                 User user, BoardCate boardCate) {
         return Board.builder()
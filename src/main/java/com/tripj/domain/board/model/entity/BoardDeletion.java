@@ -0,0 +1,35 @@
+package com.tripj.domain.board.model.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 삭제 로그
+ * 다른 서버의 검색 색인이 삭제된 게시글을 지울 수 있도록 남기며, 동기화 주기가 충분히 지나면 삭제한다.
+ */
+@Getter
+@Entity
+@Table(indexes = {
+        @Index(name = "idx_board_deletion_deleted_at", columnList = "deleted_at")
+})
+@Builder
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BoardDeletion {
+
+    @Id
+    @Column(name = "board_id")
+    private Long boardId;
+
+    @Column(name = "deleted_at", nullable = false)
+    private LocalDateTime deletedAt;
+
+    public static BoardDeletion newBoardDeletion(Long boardId, LocalDateTime deletedAt) {
+        return BoardDeletion.builder()
+                .boardId(boardId)
+                .deletedAt(deletedAt)
+                .build();
+    }
+}
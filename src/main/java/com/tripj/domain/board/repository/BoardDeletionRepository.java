@@ -0,0 +1,21 @@
+package com.tripj.domain.board.repository;
+
+import com.tripj.domain.board.model.entity.BoardDeletion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface BoardDeletionRepository extends JpaRepository<BoardDeletion, Long> {
+
+    List<BoardDeletion> findAllByDeletedAtGreaterThanEqual(LocalDateTime from);
+
+    @Modifying
+    @Query("delete from BoardDeletion bd where bd.deletedAt < :before")
+    int deleteOlderThan(@Param("before") LocalDateTime before);
+}
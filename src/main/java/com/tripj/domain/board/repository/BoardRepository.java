@@ -2,10 +2,29 @@ package com.tripj.domain.board.repository;
 
 import com.tripj.domain.board.model.entity.Board;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface BoardRepository extends JpaRepository<Board, Long>, BoardRepositoryCustom {
 
+    /**
+     * 댓글 수 증감 (엔티티 갱신과 무관하게 DB 에서 원자적으로 반영)
+     */
+    @Modifying
+    @Query("update Board b set b.commentCount = b.commentCount + :delta where b.id = :boardId")
+    int updateCommentCount(@Param("boardId") Long boardId, @Param("delta") long delta);
+
+    /**
+     * 댓글/좋아요 수 재집계
+     */
+    @Modifying
+    @Query(value = "update board b set " +
+            "b.comment_count = (select count(*) from comment c where c.board_id = b.board_id), " +
+            "b.like_count = (select count(*) from liked_board lb where lb.board_id = b.board_id)",
+            nativeQuery = true)
+    int recalculateCounts();
 
 }
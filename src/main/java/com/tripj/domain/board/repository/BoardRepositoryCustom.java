@@ -1,28 +1,34 @@
 package com.tripj.domain.board.repository;
 
-import com.tripj.domain.board.model.dto.request.GetBoardSearchRequest;
 import com.tripj.domain.board.model.dto.response.GetBoardDetailResponse;
+import com.tripj.domain.board.model.dto.response.GetBoardLikeCountResponse;
 import com.tripj.domain.board.model.dto.response.GetBoardResponse;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Slice;
+import com.tripj.domain.board.search.BoardSearchDocument;
+import com.tripj.global.model.Cursor;
+import com.tripj.global.model.CursorSlice;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface BoardRepositoryCustom {
-    Slice<GetBoardResponse> findAllPaging(Long lastBoardId, Pageable pageable);
+    CursorSlice<GetBoardResponse> findAllPaging(Cursor cursor, int size);
 
     GetBoardDetailResponse getBoardDetail(Long boardId);
 
-    List<GetBoardResponse> getBoardList(Long boardCateId);
+    CursorSlice<GetBoardResponse> getBoardList(Long boardCateId, Cursor cursor, int size);
 
-    List<GetBoardResponse> getBoardLatestList();
+    List<GetBoardResponse> getBoardListByIds(List<Long> boardIds);
 
-    List<GetBoardResponse> getBoardPopularList();
+    List<GetBoardLikeCountResponse> getPopularCandidates(LocalDateTime since, int limit);
 
-    List<GetBoardResponse> getAllBoardList(GetBoardSearchRequest request);
+    List<GetBoardLikeCountResponse> getBoardLikeCounts(List<Long> boardIds, LocalDateTime since);
 
-    List<GetBoardResponse> getMyBoardList(Long userId);
+    List<BoardSearchDocument> getSearchDocuments(Long lastBoardId, int limit);
 
-    List<GetBoardResponse> getMyLikedBoard(Long userId);
+    List<BoardSearchDocument> getSearchDocumentsUpdatedSince(LocalDateTime from);
+
+    CursorSlice<GetBoardResponse> getMyBoardList(Long userId, Cursor cursor, int size);
+
+    CursorSlice<GetBoardResponse> getMyLikedBoard(Long userId, Cursor cursor, int size);
 
 }
@@ -1,31 +1,36 @@
 package com.tripj.domain.board.repository;
 
 import com.querydsl.core.types.dsl.BooleanExpression;
-import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
-import com.tripj.domain.board.model.dto.request.GetBoardSearchRequest;
 import com.tripj.domain.board.model.dto.response.GetBoardDetailResponse;
+import com.tripj.domain.board.model.dto.response.GetBoardLikeCountResponse;
 import com.tripj.domain.board.model.dto.response.GetBoardResponse;
 import com.tripj.domain.board.model.dto.response.QGetBoardDetailResponse;
+import com.tripj.domain.board.model.dto.response.QGetBoardLikeCountResponse;
 import com.tripj.domain.board.model.dto.response.QGetBoardResponse;
 import com.tripj.domain.board.model.entity.Board;
 import com.tripj.domain.board.model.entity.QBoard;
-import com.tripj.domain.boardimg.model.entity.QBoardImg;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Slice;
-import org.springframework.data.domain.SliceImpl;
+import com.tripj.domain.board.search.BoardSearchDocument;
+import com.tripj.domain.board.search.QBoardSearchDocument;
+import com.tripj.global.model.Cursor;
+import com.tripj.global.model.CursorSlice;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
-import static com.querydsl.jpa.JPAExpressions.select;
+import static com.querydsl.core.group.GroupBy.groupBy;
+import static com.querydsl.core.group.GroupBy.list;
 import static com.tripj.domain.board.model.entity.QBoard.board;
-import static com.tripj.domain.boardimg.model.entity.QBoardImg.*;
-import static com.tripj.domain.comment.model.entity.QComment.comment;
+import static com.tripj.domain.boardcate.model.entity.QBoardCate.boardCate;
+import static com.tripj.domain.boardimg.model.entity.QBoardImg.boardImg;
 import static com.tripj.domain.like.model.entity.QLikedBoard.likedBoard;
 import static com.tripj.domain.user.model.entity.QUser.user;
-import static org.springframework.util.StringUtils.*;
 
 @Repository
 public class BoardRepositoryCustomImpl implements BoardRepositoryCustom {
@@ -37,237 +42,168 @@ public class BoardRepositoryCustomImpl implements BoardRepositoryCustom {
     }
 
     @Override
-    public Slice<GetBoardResponse> findAllPaging(Long lastBoardId, Pageable pageable) {
-        List<GetBoardResponse> results = queryFactory
-                .select((new QGetBoardResponse(
+    public CursorSlice<GetBoardResponse> findAllPaging(Cursor cursor, int size) {
+        return fetchSlice(selectBoardResponse(), cursor, size);
+    }
+
+    @Override
+    public GetBoardDetailResponse getBoardDetail(Long boardId) {
+
+        List<GetBoardDetailResponse> results = queryFactory
+                .from(board)
+                .join(board.user, user)
+                .join(board.boardCate, boardCate)
+                .leftJoin(board.boardImg, boardImg)
+                .where(board.id.eq(boardId))
+                .orderBy(boardImg.id.asc())
+                .transform(groupBy(board.id).list(new QGetBoardDetailResponse(
                         user.id,
                         user.userName,
                         user.profile,
                         board.id,
-                        board.boardCate.id,
-                        board.boardCate.boardCateName,
+                        boardCate.boardCateName,
                         board.title,
                         board.content,
                         board.regTime,
-                        comment.id.countDistinct(),
-                        likedBoard.id.countDistinct()
-                )))
-                .from(board)
-                .join(board.user, user)
-                .leftJoin(board.comment, comment)
-                .leftJoin(board.likedBoard, likedBoard)
-                .groupBy(user.id, user.userName, user.profile, board.id,
-                        board.boardCate.boardCateName, board.title,
-                        board.content, board.regTime)
-                .orderBy(board.regTime.desc())
-                .limit(pageable.getPageSize() + 1)
-                .fetch();
+                        board.commentCount,
+                        board.likeCount,
+                        list(boardImg.url)
+                )));
 
-        return checkLastPage(pageable, results);
+        return results.isEmpty() ? null : results.get(0);
     }
 
-    private BooleanExpression lastBoardId(Long boardId) {
-        if (boardId == null) return null;
-        return board.id.lt(boardId);
-    }
-
-    private Slice<GetBoardResponse> checkLastPage(Pageable pageable, List<GetBoardResponse> results) {
-        boolean hasNext = false;
-
-        if (results.size() > pageable.getPageSize()) {
-            hasNext = true;
-            results.remove(pageable.getPageSize());
-        }
-
-        return new SliceImpl<>(results, pageable, hasNext);
+    @Override
+    public CursorSlice<GetBoardResponse> getBoardList(Long boardCateId, Cursor cursor, int size) {
+        return fetchSlice(selectBoardResponse()
+                        .where(board.boardCate.id.eq(boardCateId)),
+                cursor, size);
     }
 
     @Override
-    public GetBoardDetailResponse getBoardDetail(Long boardId) {
+    public List<GetBoardResponse> getBoardListByIds(List<Long> boardIds) {
+        if (boardIds.isEmpty()) {
+            return List.of();
+        }
 
-        GetBoardDetailResponse result = queryFactory
-                .select(new QGetBoardDetailResponse(
-                        user.id,
-                        user.userName,
-                        user.profile,
-                        board.id,
-                        board.boardCate.boardCateName,
-                        board.title,
-                        board.content,
-                        board.regTime,
-                        JPAExpressions
-                                .select(comment.id.countDistinct())
-                                .from(comment)
-                                .where(comment.board.id.eq(board.id)),
-                        JPAExpressions
-                                .select(likedBoard.id.countDistinct())
-                                .from(likedBoard)
-                                .where(likedBoard.board.id.eq(board.id))
-                ))
-                .from(board)
-                .join(board.user, user)
-                .leftJoin(board.boardImg, boardImg)
-                .where(board.id.eq(boardId))
-                .groupBy(user.id, user.userName, user.profile,
-                        board.id, board.boardCate.boardCateName,
-                        board.title, board.content)
-                .fetchOne();
+        Map<Long, GetBoardResponse> results = selectBoardResponse()
+                .where(board.id.in(boardIds))
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(GetBoardResponse::getBoardId, Function.identity()));
 
-        return result;
+        return boardIds.stream()
+                .map(results::get)
+                .filter(Objects::nonNull)
+                .toList();
     }
 
     @Override
-    public List<GetBoardResponse> getBoardList(Long boardCateId) {
-        List<GetBoardResponse> results = queryFactory
-                .select((new QGetBoardResponse(
-                        user.id,
-                        user.userName,
-                        user.profile,
+    public List<GetBoardLikeCountResponse> getPopularCandidates(LocalDateTime since, int limit) {
+        return queryFactory
+                .select(new QGetBoardLikeCountResponse(
                         board.id,
-                        board.boardCate.id,
-                        board.boardCate.boardCateName,
-                        board.title,
-                        board.content,
                         board.regTime,
-                        comment.id.countDistinct(),
-                        likedBoard.id.countDistinct()
-                )))
+                        board.likeCount
+                ))
                 .from(board)
-                .join(board.user, user)
-                .leftJoin(board.comment, comment)
-                .leftJoin(board.likedBoard, likedBoard)
-                .where(board.boardCate.id.eq(boardCateId))
-                .groupBy(user.id, user.userName, user.profile, board.id,
-                        board.boardCate.boardCateName, board.title,
-                        board.content, board.regTime)
+                .where(board.regTime.goe(since),
+                        board.likeCount.gt(0L))
+                .orderBy(board.likeCount.desc())
+                .limit(limit)
                 .fetch();
-
-        return results;
     }
 
     @Override
-    public List<GetBoardResponse> getBoardLatestList() {
-        List<GetBoardResponse> results = queryFactory
-                .select((new QGetBoardResponse(
-                        user.id,
-                        user.userName,
-                        user.profile,
+    public List<GetBoardLikeCountResponse> getBoardLikeCounts(List<Long> boardIds, LocalDateTime since) {
+        return queryFactory
+                .select(new QGetBoardLikeCountResponse(
                         board.id,
-                        board.boardCate.id,
-                        board.boardCate.boardCateName,
-                        board.title,
-                        board.content,
                         board.regTime,
-                        comment.id.countDistinct(),
-                        likedBoard.id.countDistinct()
-                )))
+                        board.likeCount
+                ))
                 .from(board)
-                .join(board.user, user)
-                .leftJoin(board.comment, comment)
-                .leftJoin(board.likedBoard, likedBoard)
-                .groupBy(user.id, user.userName, user.profile, board.id,
-                        board.boardCate.boardCateName, board.title,
-                        board.content, board.regTime)
-                .orderBy(board.regTime.desc())
+                .where(board.id.in(boardIds),
+                        board.regTime.goe(since))
                 .fetch();
-
-        return results;
     }
 
     @Override
-    public List<GetBoardResponse> getBoardPopularList() {
-        List<GetBoardResponse> results = queryFactory
-                .select((new QGetBoardResponse(
-                        user.id,
-                        user.userName,
-                        user.profile,
+    public List<BoardSearchDocument> getSearchDocuments(Long lastBoardId, int limit) {
+        return queryFactory
+                .select(new QBoardSearchDocument(
                         board.id,
-                        board.boardCate.id,
-                        board.boardCate.boardCateName,
                         board.title,
                         board.content,
-                        board.regTime,
-                        comment.id.countDistinct(),
-                        likedBoard.id.countDistinct()
-                )))
+                        board.regTime
+                ))
                 .from(board)
-                .join(board.user, user)
-                .leftJoin(board.comment, comment)
-                .leftJoin(board.likedBoard, likedBoard)
-                .groupBy(user.id, user.userName, user.profile, board.id,
-                        board.boardCate.boardCateName, board.title,
-                        board.content, board.regTime)
-                .orderBy(likedBoard.id.countDistinct().desc(),
-                        board.regTime.desc())
+                .where(board.id.gt(lastBoardId))
+                .orderBy(board.id.asc())
+                .limit(limit)
                 .fetch();
-
-        return results;
     }
 
     @Override
-    public List<GetBoardResponse> getAllBoardList(GetBoardSearchRequest request) {
-        List<GetBoardResponse> results = queryFactory
-                .select(new QGetBoardResponse(
-                        user.id,
-                        user.userName,
-                        user.profile,
+    public List<BoardSearchDocument> getSearchDocumentsUpdatedSince(LocalDateTime from) {
+        return queryFactory
+                .select(new QBoardSearchDocument(
                         board.id,
-                        board.boardCate.id,
-                        board.boardCate.boardCateName,
                         board.title,
                         board.content,
-                        board.regTime,
-                        comment.id.countDistinct(),
-                        likedBoard.id.countDistinct()
+                        board.regTime
                 ))
                 .from(board)
-                .join(board.user, user)
-                .leftJoin(board.comment, comment)
-                .leftJoin(board.likedBoard, likedBoard)
-                .where(titleOrContentLike(request.getKeyword()))
-                .groupBy(user.id, user.userName, user.profile, board.id,
-                        board.boardCate.boardCateName, board.title,
-                        board.content, board.regTime)
-                .orderBy(board.regTime.desc())
+                .where(board.updateTime.goe(from))
                 .fetch();
+    }
 
-        return results;
+    @Override
+    public CursorSlice<GetBoardResponse> getMyBoardList(Long userId, Cursor cursor, int size) {
+        return fetchSlice(selectBoardResponse()
+                        .where(board.user.id.eq(userId)),
+                cursor, size);
     }
 
     @Override
-    public List<GetBoardResponse> getMyBoardList(Long userId) {
-        List<GetBoardResponse> results = queryFactory
-                .select((new QGetBoardResponse(
-                        user.id,
-                        user.userName,
-                        user.profile,
-                        board.id,
-                        board.boardCate.id,
-                        board.boardCate.boardCateName,
-                        board.title,
-                        board.content,
-                        board.regTime,
-                        comment.id.countDistinct(),
-                        likedBoard.id.countDistinct()
-                )))
-                .from(board)
-                .join(board.user, user)
-                .leftJoin(board.comment, comment)
-                .leftJoin(board.likedBoard, likedBoard)
-                .where(board.user.id.eq(userId))
-                .groupBy(user.id, user.userName, user.profile, board.id,
-                        board.boardCate.boardCateName, board.title,
-                        board.content, board.regTime)
-                .orderBy(board.regTime.desc())
+    public CursorSlice<GetBoardResponse> getMyLikedBoard(Long userId, Cursor cursor, int size) {
+        return fetchSlice(selectBoardResponse()
+                        .join(board.likedBoard, likedBoard)
+                        .where(likedBoard.user.id.eq(userId)),
+                cursor, size);
+    }
+
+    /**
+     * 최신순 (regTime, boardId) 커서 페이징, size + 1 건 조회로 다음 페이지 여부 판단
+     */
+    private CursorSlice<GetBoardResponse> fetchSlice(JPAQuery<GetBoardResponse> query,
+                                                     Cursor cursor, int size) {
+        List<GetBoardResponse> results = query
+                .where(beforeCursor(cursor))
+                .orderBy(board.regTime.desc(), board.id.desc())
+                .limit(size + 1)
                 .fetch();
 
-        return results;
+        return CursorSlice.of(results, size,
+                result -> Cursor.of(result.getRegTime(), result.getBoardId()));
     }
 
-    @Override
-    public List<GetBoardResponse> getMyLikedBoard(Long userId) {
-        List<GetBoardResponse> results = queryFactory
-                .select((new QGetBoardResponse(
+    /**
+     * (regTime, boardId) 기준으로 커서 이후 게시글만 조회
+     */
+    private BooleanExpression beforeCursor(Cursor cursor) {
+        if (cursor == null) return null;
+        return board.regTime.lt(cursor.getRegTime())
+                .or(board.regTime.eq(cursor.getRegTime())
+                        .and(board.id.lt(cursor.getId())));
+    }
+
+    /**
+     * 게시글 리스트 공통 projection (댓글/좋아요 수는 Board 컬럼에서 조회)
+     */
+    private JPAQuery<GetBoardResponse> selectBoardResponse() {
+        return queryFactory
+                .select(new QGetBoardResponse(
                         user.id,
                         user.userName,
                         user.profile,
@@ -277,51 +213,10 @@ public class BoardRepositoryCustomImpl implements BoardRepositoryCustom {
                         board.title,
                         board.content,
                         board.regTime,
-                        comment.id.countDistinct(),
-                        likedBoard.id.countDistinct()
-                )))
+                        board.commentCount,
+                        board.likeCount
+                ))
                 .from(board)
-                .join(board.user, user)
-                .leftJoin(board.comment, comment)
-                .join(board.likedBoard, likedBoard)
-                .where(likedBoard.user.id.eq(userId))
-                .groupBy(user.id, user.userName, user.profile, board.id,
-                        board.boardCate.boardCateName, board.title,
-                        board.content, board.regTime)
-                .orderBy(board.regTime.desc())
-                .fetch();
-
-        return results;
+                .join(board.user, user);
     }
-
-    private BooleanExpression titleLike(String title) {
-        return hasText(title) ? board.title.contains(title) : null;
-    }
-
-    private BooleanExpression contentLike(String content) {
-        return hasText(content) ? board.content.contains(content) : null;
-    }
-
-    private BooleanExpression titleOrContentLike(String keyword) {
-        String[] keywords = keyword.split(" ");
-
-        BooleanExpression condition = null;
-
-        for (String word : keywords) {
-            BooleanExpression titleCondition = hasText(word) ? board.title.contains(word) : null;
-            BooleanExpression contentCondition = hasText(word) ? board.content.contains(word) : null;
-
-            if (condition == null) {
-                condition = titleCondition != null ? titleCondition.or(contentCondition) : null;
-            } else {
-                if (titleCondition != null) {
-                    condition = condition.or(titleCondition).or(contentCondition);
-                }
-            }
-        }
-        return condition;
-    }
-
-
-
 }
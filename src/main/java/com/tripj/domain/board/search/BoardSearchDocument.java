@@ -0,0 +1,29 @@
+package com.tripj.domain.board.search;
+
+import com.querydsl.core.annotations.QueryProjection;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 검색 색인 적재용 게시글
+ */
+@Getter
+public class BoardSearchDocument {
+
+    private Long boardId;
+
+    private String title;
+
+    private String content;
+
+    private LocalDateTime regTime;
+
+    @QueryProjection
+    public BoardSearchDocument(Long boardId, String title, String content, LocalDateTime regTime) {
+        this.boardId = boardId;
+        this.title = title;
+        this.content = content;
+        this.regTime = regTime;
+    }
+}
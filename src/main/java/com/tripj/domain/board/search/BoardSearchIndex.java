@@ -0,0 +1,317 @@
+package com.tripj.domain.board.search;
+
+import com.tripj.domain.board.constant.BoardChangeType;
+import com.tripj.domain.board.event.BoardChangedEvent;
+import com.tripj.domain.board.model.entity.BoardDeletion;
+import com.tripj.domain.board.repository.BoardDeletionRepository;
+import com.tripj.domain.board.repository.BoardRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 게시글 제목/내용 역색인 (메모리)
+ * 기동 시 전체 적재 후 게시글 등록/수정/삭제 이벤트로 증분 갱신하고,
+ * 다른 서버에서 바뀐 게시글은 주기적으로 최근 수정분(update_time)과 삭제 로그를 다시 읽어 반영한다.
+ * 적재 중 이벤트로 바뀐 게시글은 적재 시점의 (더 오래된) 내용으로 덮어쓰지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BoardSearchIndex {
+
+    private static final int TITLE_WEIGHT = 3;
+    private static final int LOAD_CHUNK_SIZE = 1000;
+
+    /**
+     * 동기화 구간 겹침 (늦게 커밋된 수정을 놓치지 않도록 직전 동기화 이전부터 다시 읽는다)
+     */
+    private static final Duration SYNC_OVERLAP = Duration.ofMinutes(5);
+
+    private final BoardRepository boardRepository;
+    private final BoardDeletionRepository boardDeletionRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    private final Map<Long, Document> documents = new HashMap<>();
+
+    /**
+     * 적재(rebuild/resync) 중 이벤트로 색인/제거된 게시글 (적재 중이 아니면 null, lock 으로 보호)
+     */
+    private Set<Long> changedDuringLoad;
+
+    private volatile LocalDateTime lastSyncedAt;
+
+    /**
+     * 기동 시 전체 게시글 색인
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        long start = System.currentTimeMillis();
+        LocalDateTime syncedAt = LocalDateTime.now();
+        Long lastBoardId = 0L;
+        int count = 0;
+
+        beginLoad();
+        try {
+            List<BoardSearchDocument> chunk;
+            do {
+                chunk = boardRepository.getSearchDocuments(lastBoardId, LOAD_CHUNK_SIZE);
+                load(chunk);
+                if (!chunk.isEmpty()) {
+                    lastBoardId = chunk.get(chunk.size() - 1).getBoardId();
+                }
+                count += chunk.size();
+            } while (chunk.size() == LOAD_CHUNK_SIZE);
+        } finally {
+            endLoad();
+        }
+        lastSyncedAt = syncedAt;
+
+        log.info("board search index built. documents={}, elapsed={}ms",
+                count, System.currentTimeMillis() - start);
+    }
+
+    /**
+     * 다른 서버에서 등록/수정/삭제된 게시글 반영
+     * 직전 동기화 시각보다 SYNC_OVERLAP 만큼 앞선 수정분을 다시 색인하고, 같은 구간의 삭제 로그로 색인을 지운다.
+     * 삭제를 나중에 반영하므로 수정분을 읽은 뒤 삭제된 게시글이 다시 색인되어 남지 않는다.
+     */
+    public synchronized void resync() {
+        if (lastSyncedAt == null) {
+            return;
+        }
+        LocalDateTime syncedAt = LocalDateTime.now();
+        LocalDateTime from = lastSyncedAt.minus(SYNC_OVERLAP);
+
+        beginLoad();
+        try {
+            load(boardRepository.getSearchDocumentsUpdatedSince(from));
+
+            List<BoardDeletion> deletions = boardDeletionRepository.findAllByDeletedAtGreaterThanEqual(from);
+            lock.writeLock().lock();
+            try {
+                deletions.forEach(deletion -> removeInternal(deletion.getBoardId()));
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            endLoad();
+        }
+        lastSyncedAt = syncedAt;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBoardChanged(BoardChangedEvent event) {
+        if (event.getChangeType() == BoardChangeType.DELETED) {
+            remove(event.getBoardId());
+        } else if (event.getChangeType() == BoardChangeType.CREATED
+                || event.getChangeType() == BoardChangeType.UPDATED) {
+            index(event.getBoardId(), event.getTitle(), event.getContent(), event.getRegTime());
+        }
+    }
+
+    /**
+     * 게시글 색인 (기존 색인은 교체)
+     */
+    public void index(Long boardId, String title, String content, LocalDateTime regTime) {
+        Map<String, Integer> frequencies = termFrequencies(title, content);
+
+        lock.writeLock().lock();
+        try {
+            markChanged(boardId);
+            indexInternal(boardId, frequencies, regTime);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 게시글 색인 제거
+     */
+    public void remove(Long boardId) {
+        lock.writeLock().lock();
+        try {
+            markChanged(boardId);
+            removeInternal(boardId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어의 각 단어를 포함하는 게시글을 관련도(tf-idf) 순으로 조회
+     * 단어끼리는 OR 조건, 동점이면 최신 게시글 우선
+     * 전체 일치 목록을 정렬하지 않고 상위 offset + limit 건만 heap 으로 유지한다.
+     */
+    public List<Long> search(String keyword, int offset, int limit) {
+        List<String> words = BoardTokenizer.words(keyword);
+        if (words.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            Map<Long, Double> scores = new HashMap<>();
+            for (String word : words) {
+                scoreWord(word, scores);
+            }
+
+            Comparator<Map.Entry<Long, Double>> ranking =
+                    Comparator.comparing(Map.Entry<Long, Double>::getValue).reversed()
+                            .thenComparing(entry -> documents.get(entry.getKey()).regTime,
+                                    Comparator.nullsLast(Comparator.<LocalDateTime>reverseOrder()))
+                            .thenComparing(Map.Entry::getKey, Comparator.<Long>reverseOrder());
+
+            if (offset >= scores.size()) {
+                return List.of();
+            }
+
+            // 순위가 가장 낮은 항목이 head 인 크기 offset + limit 의 heap
+            int bound = (int) Math.min((long) offset + limit, scores.size());
+            PriorityQueue<Map.Entry<Long, Double>> top = new PriorityQueue<>(ranking.reversed());
+            for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+                if (top.size() < bound) {
+                    top.offer(entry);
+                } else if (ranking.compare(entry, top.peek()) < 0) {
+                    top.poll();
+                    top.offer(entry);
+                }
+            }
+
+            return top.stream()
+                    .sorted(ranking)
+                    .skip(offset)
+                    .map(Map.Entry::getKey)
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 단어의 모든 n-gram 을 포함하는 게시글에 점수 누적
+     */
+    private void scoreWord(String word, Map<Long, Double> scores) {
+        List<Map<Long, Integer>> termPostings = new ArrayList<>();
+        for (String term : BoardTokenizer.queryTerms(word)) {
+            Map<Long, Integer> posting = postings.get(term);
+            if (posting == null) {
+                return;
+            }
+            termPostings.add(posting);
+        }
+        termPostings.sort(Comparator.comparingInt(Map::size));
+
+        int documentCount = documents.size();
+        for (Long boardId : termPostings.get(0).keySet()) {
+            double score = 0;
+            for (Map<Long, Integer> posting : termPostings) {
+                Integer tf = posting.get(boardId);
+                if (tf == null) {
+                    score = 0;
+                    break;
+                }
+                score += tf * Math.log(1 + (double) documentCount / posting.size());
+            }
+            if (score > 0) {
+                scores.merge(boardId, score, Double::sum);
+            }
+        }
+    }
+
+    /**
+     * 적재한 게시글 색인 (적재 중 이벤트로 바뀐 게시글은 건너뜀)
+     */
+    private void load(List<BoardSearchDocument> chunk) {
+        for (BoardSearchDocument document : chunk) {
+            Map<String, Integer> frequencies = termFrequencies(document.getTitle(), document.getContent());
+
+            lock.writeLock().lock();
+            try {
+                if (!changedDuringLoad.contains(document.getBoardId())) {
+                    indexInternal(document.getBoardId(), frequencies, document.getRegTime());
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    private void beginLoad() {
+        lock.writeLock().lock();
+        try {
+            changedDuringLoad = new HashSet<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void endLoad() {
+        lock.writeLock().lock();
+        try {
+            changedDuringLoad = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void markChanged(Long boardId) {
+        if (changedDuringLoad != null) {
+            changedDuringLoad.add(boardId);
+        }
+    }
+
+    private Map<String, Integer> termFrequencies(String title, String content) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        BoardTokenizer.termFrequencies(title)
+                .forEach((term, tf) -> frequencies.merge(term, tf * TITLE_WEIGHT, Integer::sum));
+        BoardTokenizer.termFrequencies(content)
+                .forEach((term, tf) -> frequencies.merge(term, tf, Integer::sum));
+        return frequencies;
+    }
+
+    private void indexInternal(Long boardId, Map<String, Integer> frequencies, LocalDateTime regTime) {
+        removeInternal(boardId);
+        frequencies.forEach((term, tf) ->
+                postings.computeIfAbsent(term, key -> new HashMap<>()).put(boardId, tf));
+        documents.put(boardId, new Document(regTime, frequencies.keySet()));
+    }
+
+    private void removeInternal(Long boardId) {
+        Document document = documents.remove(boardId);
+        if (document == null) {
+            return;
+        }
+
+        for (String term : document.terms) {
+            Map<Long, Integer> posting = postings.get(term);
+            if (posting != null) {
+                posting.remove(boardId);
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    private static class Document {
+
+        private final LocalDateTime regTime;
+        private final Set<String> terms;
+
+        private Document(LocalDateTime regTime, Set<String> terms) {
+            this.regTime = regTime;
+            this.terms = terms;
+        }
+    }
+}
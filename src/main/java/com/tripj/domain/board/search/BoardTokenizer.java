@@ -0,0 +1,65 @@
+package com.tripj.domain.board.search;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.regex.Pattern;
+
+/**
+ * 게시글 검색 토크나이저
+ * 한글은 조사/어미가 붙어 어절 단위 일치가 어렵기 때문에 음절 n-gram(1, 2)으로 색인한다.
+ * ex) "오사카에서" -> 오, 사, 카, 에, 서, 오사, 사카, 카에, 에서
+ */
+public final class BoardTokenizer {
+
+    private static final Pattern SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private BoardTokenizer() {
+    }
+
+    /**
+     * 정규화 후 단어 분리
+     */
+    public static List<String> words(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        return Arrays.stream(SEPARATOR.split(normalized))
+                .filter(word -> !word.isEmpty())
+                .toList();
+    }
+
+    /**
+     * 색인용 토큰별 출현 횟수 (unigram + bigram)
+     */
+    public static Map<String, Integer> termFrequencies(String text) {
+        Map<String, Integer> frequencies = new HashMap<>();
+
+        for (String word : words(text)) {
+            int length = word.length();
+            for (int i = 0; i < length; i++) {
+                frequencies.merge(word.substring(i, i + 1), 1, Integer::sum);
+                if (i + 1 < length) {
+                    frequencies.merge(word.substring(i, i + 2), 1, Integer::sum);
+                }
+            }
+        }
+        return frequencies;
+    }
+
+    /**
+     * 검색어 한 단어의 조회 토큰 (한 글자면 unigram, 그 외 bigram)
+     */
+    public static Set<String> queryTerms(String word) {
+        if (word.length() == 1) {
+            return Set.of(word);
+        }
+
+        Set<String> terms = new LinkedHashSet<>();
+        for (int i = 0; i + 1 < word.length(); i++) {
+            terms.add(word.substring(i, i + 2));
+        }
+        return terms;
+    }
+}
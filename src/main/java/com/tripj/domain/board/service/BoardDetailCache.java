@@ -0,0 +1,55 @@
+package com.tripj.domain.board.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tripj.domain.board.event.BoardChangedEvent;
+import com.tripj.domain.board.model.dto.response.GetBoardDetailResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * 게시글 상세 조회 캐시 (메모리)
+ * 최대 건수와 TTL 로 제한하고, 게시글/댓글/좋아요/이미지 변경 이벤트 커밋 이후 무효화한다.
+ * 적중률은 cache.gets{cache=boardDetail} 지표로 확인한다.
+ */
+@Component
+public class BoardDetailCache {
+
+    private static final String CACHE_NAME = "boardDetail";
+
+    private final Cache<Long, GetBoardDetailResponse> cache;
+
+    public BoardDetailCache(MeterRegistry meterRegistry,
+                            @Value("${board.detail-cache.maximum-size:10000}") long maximumSize,
+                            @Value("${board.detail-cache.ttl-seconds:60}") long ttlSeconds) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 캐시 조회, 없으면 loader 로 조립 후 저장
+     * 같은 게시글에 대한 동시 미스는 한 번만 조회한다.
+     */
+    public GetBoardDetailResponse get(Long boardId, Function<Long, GetBoardDetailResponse> loader) {
+        return cache.get(boardId, loader);
+    }
+
+    public void evict(Long boardId) {
+        cache.invalidate(boardId);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBoardChanged(BoardChangedEvent event) {
+        evict(event.getBoardId());
+    }
+}
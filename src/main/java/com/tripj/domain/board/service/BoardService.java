@@ -4,31 +4,42 @@ import com.tripj.domain.board.model.dto.request.CreateBoardRequest;
 import com.tripj.domain.board.model.dto.request.GetBoardRequest;
 import com.tripj.domain.board.model.dto.request.GetBoardSearchRequest;
 import com.tripj.domain.board.model.dto.response.*;
+import com.tripj.domain.board.event.BoardChangedEvent;
 import com.tripj.domain.board.model.entity.Board;
+import com.tripj.domain.board.model.entity.BoardDeletion;
+import com.tripj.domain.board.repository.BoardDeletionRepository;
 import com.tripj.domain.board.repository.BoardRepository;
+import com.tripj.domain.board.search.BoardSearchIndex;
+import com.tripj.domain.board.search.BoardTokenizer;
 import com.tripj.domain.boardcate.model.entity.BoardCate;
 import com.tripj.domain.boardcate.repository.BoardCateRepository;
 import com.tripj.domain.boardimg.model.entity.BoardImg;
 import com.tripj.domain.boardimg.service.BoardImgService;
 import com.tripj.domain.comment.repository.CommentRepository;
+import com.tripj.domain.common.dto.response.FileUploadResponse;
 import com.tripj.domain.like.repository.LikedBoardRepository;
 import com.tripj.domain.user.model.entity.User;
 import com.tripj.domain.user.repository.UserRepository;
 import com.tripj.global.code.ErrorCode;
 import com.tripj.global.error.exception.ForbiddenException;
 import com.tripj.global.error.exception.NotFoundException;
+import com.tripj.global.model.Cursor;
+import com.tripj.global.model.CursorSlice;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 @Service
 @Transactional
@@ -36,62 +47,104 @@ import java.util.stream.Collectors;
 public class BoardService {
 
     private final BoardRepository boardRepository;
+    private final BoardDeletionRepository boardDeletionRepository;
     private final BoardCateRepository boardCateRepository;
     private final UserRepository userRepository;
     private final CommentRepository commentRepository;
     private final LikedBoardRepository likedBoardRepository;
     private final BoardImgService boardImgService;
+    private final PopularBoardRanking popularBoardRanking;
+    private final BoardSearchIndex boardSearchIndex;
+    private final BoardDetailCache boardDetailCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
 
     /**
      * 게시글 등록
+     * 이미지는 DB 트랜잭션 밖에서 먼저 업로드하고, 저장에 실패하면 업로드한 이미지를 지운다.
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public CreateBoardResponse createBoard(
             CreateBoardRequest request, Long userId, List<MultipartFile> images) throws IOException {
 
-        User user = userRepository.findById(userId)
-            .orElseThrow(() -> new NotFoundException(ErrorCode.E404_NOT_EXISTS_USER));
+        List<FileUploadResponse> uploadedImages = uploadImages(images);
 
-        BoardCate boardCate = boardCateRepository.findById(request.getBoardCateId())
-            .orElseThrow(() -> new NotFoundException(ErrorCode.E404_NOT_EXISTS_BOARD_CATE));
+        try {
+            return transactionTemplate.execute(status -> {
+                User user = userRepository.findById(userId)
+                    .orElseThrow(() -> new NotFoundException(ErrorCode.E404_NOT_EXISTS_USER));
 
-        Board savedBoard = boardRepository.save(request.toEntity(user, boardCate));
+                BoardCate boardCate = boardCateRepository.findById(request.getBoardCateId())
+                    .orElseThrow(() -> new NotFoundException(ErrorCode.E404_NOT_EXISTS_BOARD_CATE));
 
-        if (images != null) {
-            boardImgService.validateImgCount(images, 5L);
-            boardImgService.uploadBoardImg(savedBoard, images);
-        }
+                Board savedBoard = boardRepository.save(request.toEntity(user, boardCate));
+                boardImgService.saveBoardImgs(savedBoard, uploadedImages);
+                eventPublisher.publishEvent(BoardChangedEvent.created(savedBoard));
 
-        return CreateBoardResponse.of(savedBoard);
+                return CreateBoardResponse.of(savedBoard);
+            });
+        } catch (RuntimeException e) {
+            boardImgService.deleteFiles(pathsOf(uploadedImages));
+            throw e;
+        }
     }
 
     /**
      * 게시글 수정
+     * 새 이미지는 트랜잭션 밖에서 먼저 업로드하고, 기존 이미지 파일은 커밋 이후 지운다.
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public CreateBoardResponse updateBoard(
             CreateBoardRequest request, Long boardId, Long userId,
             List<MultipartFile> images) throws IOException {
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new NotFoundException(ErrorCode.E404_NOT_EXISTS_USER));
+        List<FileUploadResponse> uploadedImages = uploadImages(images);
+        List<String> oldImagePaths = new ArrayList<>();
 
-        Board board = boardRepository.findById(boardId)
-                .orElseThrow(() -> new NotFoundException(ErrorCode.E404_NOT_EXISTS_BOARD));
+        CreateBoardResponse response;
+        try {
+            response = transactionTemplate.execute(status -> {
+                User user = userRepository.findById(userId)
+                        .orElseThrow(() -> new NotFoundException(ErrorCode.E404_NOT_EXISTS_USER));
 
-        BoardCate boardCate = boardCateRepository.findById(request.getBoardCateId())
-                .orElseThrow(() -> new NotFoundException(ErrorCode.E404_NOT_EXISTS_BOARD_CATE));
+                Board board = boardRepository.findById(boardId)
+                        .orElseThrow(() -> new NotFoundException(ErrorCode.E404_NOT_EXISTS_BOARD));
 
-        if (board.getUser().getId().equals(userId)) {
-            board.updateBoard(request.getTitle(), request.getContent());
-        } else {
-            throw new ForbiddenException(ErrorCode.E403_NOT_MY_BOARD);
+                BoardCate boardCate = boardCateRepository.findById(request.getBoardCateId())
+                        .orElseThrow(() -> new NotFoundException(ErrorCode.E404_NOT_EXISTS_BOARD_CATE));
+
+                if (board.getUser().getId().equals(userId)) {
+                    board.updateBoard(request.getTitle(), request.getContent());
+                    eventPublisher.publishEvent(BoardChangedEvent.updated(board));
+                } else {
+                    throw new ForbiddenException(ErrorCode.E403_NOT_MY_BOARD);
+                }
+
+                oldImagePaths.addAll(boardImgService.replaceBoardImgs(board, uploadedImages));
+
+                return CreateBoardResponse.of(board);
+            });
+        } catch (RuntimeException e) {
+            boardImgService.deleteFiles(pathsOf(uploadedImages));
+            throw e;
         }
 
-        if (images != null) {
-            boardImgService.validateImgCount(images, 5L);
+        boardImgService.deleteFiles(oldImagePaths);
+        return response;
+    }
+
+    private List<FileUploadResponse> uploadImages(List<MultipartFile> images) throws IOException {
+        if (images == null) {
+            return List.of();
         }
-        boardImgService.updateImg(board, images);
+        boardImgService.validateImgCount(images, 5L);
+        return boardImgService.uploadImages(images);
+    }
 
-        return CreateBoardResponse.of(board);
+    private List<String> pathsOf(List<FileUploadResponse> uploadedImages) {
+        return uploadedImages.stream()
+                .map(FileUploadResponse::getFilePath)
+                .toList();
     }
 
     /**
@@ -106,6 +159,8 @@ public class BoardService {
         if (board.getUser().getId().equals(userId)) {
             boardImgService.deleteImagesInS3(board);
             boardRepository.deleteById(board.getId());
+            boardDeletionRepository.save(BoardDeletion.newBoardDeletion(board.getId(), LocalDateTime.now()));
+            eventPublisher.publishEvent(BoardChangedEvent.deleted(board.getId()));
         } else {
             throw new ForbiddenException(ErrorCode.E403_NOT_MY_BOARD);
         }
@@ -116,20 +171,16 @@ public class BoardService {
     /**
      * 게시글 상세조회
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public GetBoardDetailResponse getBoardDetail(Long boardId) {
+        return boardDetailCache.get(boardId, this::loadBoardDetail);
+    }
 
-        Board board = boardRepository.findById(boardId)
-                .orElseThrow(() -> new NotFoundException(ErrorCode.E404_NOT_EXISTS_BOARD));
+    private GetBoardDetailResponse loadBoardDetail(Long boardId) {
 
         GetBoardDetailResponse boardDetail = boardRepository.getBoardDetail(boardId);
-
-        List<String> imgUrlList = board.getBoardImg().stream()
-                 .map(boardImg -> boardImg.getUrl())
-                 .collect(Collectors.toList());
-
-        if (boardDetail.getImgUrl() == null) {
-            boardDetail.setImgUrl(imgUrlList);
+        if (boardDetail == null) {
+            throw new NotFoundException(ErrorCode.E404_NOT_EXISTS_BOARD);
         }
 
         return boardDetail;
@@ -137,77 +188,125 @@ public class BoardService {
 
 
     /**
-     * 게시글 댓글 조회
+     * 게시글 댓글 조회 (등록순, 없는 게시글이면 빈 목록)
      */
-    public List<GetBoardCommentResponse> getBoardComment(Long boardId) {
-
-        Board board = boardRepository.findById(boardId)
-            .orElseThrow(() -> new NotFoundException(ErrorCode.E404_NOT_EXISTS_BOARD));
-
-        return commentRepository.findByBoardId(boardId);
+    @Transactional(readOnly = true)
+    public CursorSlice<GetBoardCommentResponse> getBoardComment(
+            Long boardId, GetBoardRequest request, Pageable pageable) {
+        return commentRepository.getBoardComment(boardId, request.getCursor(), CursorSlice.sizeOf(pageable));
     }
 
     /**
      * 게시글 리스트 조회 (무한스크롤)
      */
     @Transactional(readOnly = true)
-    public Slice<GetBoardResponse> getBoardListScroll(GetBoardRequest request, Pageable pageable) {
+    public CursorSlice<GetBoardResponse> getBoardListScroll(GetBoardRequest request, Pageable pageable) {
+        return boardRepository.findAllPaging(request.getCursor(), CursorSlice.sizeOf(pageable));
+    }
 
-        return boardRepository.findAllPaging(request.getLastBoardId(), pageable)
-                .map(board -> GetBoardResponse.of(
-                        board.getUserId(),
-                        board.getUserName(),
-                        board.getProfile(),
-                        board.getBoardId(),
-                        board.getBoardCateId(),
-                        board.getTitle(),
-                        board.getContent(),
-                        board.getBoardCateName(),
-                        board.getRegTime(),
-                        board.getCommentCnt(),
-                        board.getLikeCnt()));
+    /**
+     * 게시글 카테고리별 리스트 조회
+     */
+    @Transactional(readOnly = true)
+    public CursorSlice<GetBoardResponse> getBoardList(
+            Long boardCateId, GetBoardRequest request, Pageable pageable) {
+        return boardRepository.getBoardList(boardCateId, request.getCursor(), CursorSlice.sizeOf(pageable));
     }
 
     /**
-     * 게시글 전체 리스트 조회
+     * 최신글 리스트 조회
      */
-    public List<GetBoardResponse> getBoardList(Long boardCateId) {
-        return boardRepository.getBoardList(boardCateId);
+    @Transactional(readOnly = true)
+    public CursorSlice<GetBoardResponse> getBoardLatestList(GetBoardRequest request, Pageable pageable) {
+        return boardRepository.findAllPaging(request.getCursor(), CursorSlice.sizeOf(pageable));
     }
 
     /**
-     * 최신글 전체 리스트 조회
+     * 인기글 리스트 조회 (순위는 메모리 랭킹, 게시글은 PK 로 조회)
      */
-    public List<GetBoardResponse> getBoardLatestList() {
-        return boardRepository.getBoardLatestList();
+    @Transactional(readOnly = true)
+    public CursorSlice<GetBoardResponse> getBoardPopularList(String cursor, Pageable pageable) {
+        int offset = Cursor.decodeOffset(cursor);
+        int size = CursorSlice.sizeOf(pageable);
+
+        List<Long> boardIds = popularBoardRanking.getTopBoardIds().stream()
+                .skip(offset)
+                .limit(size + 1)
+                .toList();
+
+        return rankedSlice(boardIds, offset, size);
     }
 
     /**
-     * 인기글 전체 리스트 조회
+     * 인기글 랭킹 재집계
      */
-    public List<GetBoardResponse> getBoardPopularList() {
-        return boardRepository.getBoardPopularList();
+    @Transactional(readOnly = true)
+    public void reloadPopularBoards() {
+        popularBoardRanking.reload(boardRepository.getPopularCandidates(
+                popularBoardRanking.getWindowStart(), popularBoardRanking.getCapacity()));
     }
 
     /**
-     * 게시글 전체 검색 조회
+     * 게시글 전체 검색 조회 (검색 색인 관련도순)
      */
-    public List<GetBoardResponse> getAllBoardList(GetBoardSearchRequest request) {
-        return boardRepository.getAllBoardList(request);
+    @Transactional(readOnly = true)
+    public CursorSlice<GetBoardResponse> getAllBoardList(
+            GetBoardSearchRequest request, String cursor, Pageable pageable) {
+
+        int size = CursorSlice.sizeOf(pageable);
+
+        // 검색어가 없으면 전체 게시글 최신순 (등록일, ID 커서)
+        if (BoardTokenizer.words(request.getKeyword()).isEmpty()) {
+            return boardRepository.findAllPaging(Cursor.decode(cursor), size);
+        }
+
+        int offset = Cursor.decodeOffset(cursor);
+        List<Long> boardIds = boardSearchIndex.search(request.getKeyword(), offset, size + 1);
+
+        return rankedSlice(boardIds, offset, size);
+    }
+
+    /**
+     * 순위 목록(size + 1 건)의 한 페이지를 PK 로 조회
+     */
+    private CursorSlice<GetBoardResponse> rankedSlice(List<Long> boardIds, int offset, int size) {
+        boolean hasNext = boardIds.size() > size;
+        List<Long> pageIds = hasNext ? boardIds.subList(0, size) : boardIds;
+
+        return CursorSlice.of(boardRepository.getBoardListByIds(pageIds),
+                hasNext, hasNext ? Cursor.encodeOffset(offset + size) : null);
     }
 
     /**
      * 내 게시글 조회
      */
-    public List<GetBoardResponse> getMyBoardList(Long userId) {
-        return boardRepository.getMyBoardList(userId);
+    @Transactional(readOnly = true)
+    public CursorSlice<GetBoardResponse> getMyBoardList(
+            Long userId, GetBoardRequest request, Pageable pageable) {
+        return boardRepository.getMyBoardList(userId, request.getCursor(), CursorSlice.sizeOf(pageable));
+    }
+
+    /**
+     * 게시글 댓글/좋아요 수 재집계
+     */
+    public void syncBoardCounts() {
+        boardRepository.recalculateCounts();
+    }
+
+    /**
+     * 검색 색인 동기화가 지난 게시글 삭제 로그 정리
+     */
+    public int purgeBoardDeletions(LocalDateTime before) {
+        return boardDeletionRepository.deleteOlderThan(before);
     }
 
     /**
      * 내 좋아요
      */
-    public List<GetBoardResponse> getMyLikedBoard(Long userId) {
-        return boardRepository.getMyLikedBoard(userId);
+    @Transactional(readOnly = true)
+    public CursorSlice<GetBoardResponse> getMyLikedBoard(
+            Long userId, GetBoardRequest request, Pageable pageable) {
+        return boardRepository.getMyLikedBoard(userId, request.getCursor(), CursorSlice.sizeOf(pageable));
     }
 
 }
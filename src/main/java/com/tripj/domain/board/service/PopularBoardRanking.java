@@ -0,0 +1,170 @@
+package com.tripj.domain.board.service;
+
+import com.tripj.domain.board.constant.BoardChangeType;
+import com.tripj.domain.board.event.BoardChangedEvent;
+import com.tripj.domain.board.model.dto.response.GetBoardLikeCountResponse;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 인기글 랭킹 (메모리)
+ * 좋아요 수를 게시 후 경과 시간으로 감쇠한 점수로 상위 K 개 게시글 ID 를 유지한다.
+ * 후보는 K 의 몇 배수로 제한하고, 주기적인 재집계(batch)로 DB 와 맞춘다.
+ * 좋아요마다 정렬하지 않고 변경 표시만 해 두었다가, 조회할 때 한 번 재정렬한다.
+ */
+@Component
+public class PopularBoardRanking {
+
+    private static final double GRAVITY = 1.5;
+    private static final int CANDIDATE_MULTIPLIER = 4;
+
+    @Getter
+    private final int size;
+
+    @Getter
+    private final int capacity;
+
+    private final Duration window;
+
+    private final Map<Long, Candidate> candidates = new HashMap<>();
+
+    private volatile List<Long> topBoardIds = List.of();
+
+    private volatile boolean dirty;
+
+    public PopularBoardRanking(@Value("${board.popular.size:30}") int size,
+                               @Value("${board.popular.window-days:7}") long windowDays) {
+        this.size = size;
+        this.capacity = size * CANDIDATE_MULTIPLIER;
+        this.window = Duration.ofDays(windowDays);
+    }
+
+    /**
+     * 상위 K 개 게시글 ID (점수 내림차순)
+     */
+    public List<Long> getTopBoardIds() {
+        if (dirty) {
+            refreshIfDirty();
+        }
+        return topBoardIds;
+    }
+
+    /**
+     * 재집계 대상 기간 시작 시각
+     */
+    public LocalDateTime getWindowStart() {
+        return LocalDateTime.now().minus(window);
+    }
+
+    /**
+     * 후보 게시글의 좋아요 증감 반영
+     * 후보가 아닌 게시글은 좋아요 수 반영(LikeCountBuffer) 후 update 로 들어온다.
+     */
+    public synchronized void recordLike(Long boardId, long delta) {
+        Candidate candidate = candidates.get(boardId);
+        if (candidate == null) {
+            return;
+        }
+
+        candidate.likeCount = Math.max(0, candidate.likeCount + delta);
+        dirty = true;
+    }
+
+    /**
+     * DB 좋아요 수로 후보 갱신 (후보가 아니면 추가)
+     */
+    public synchronized void update(List<GetBoardLikeCountResponse> boards) {
+        for (GetBoardLikeCountResponse board : boards) {
+            Candidate candidate = candidates.get(board.getBoardId());
+            if (candidate != null) {
+                candidate.likeCount = board.getLikeCount();
+            } else if (board.getLikeCount() > 0) {
+                candidates.put(board.getBoardId(),
+                        new Candidate(board.getBoardId(), board.getRegTime(), board.getLikeCount()));
+            }
+        }
+        dirty = true;
+    }
+
+    /**
+     * 삭제된 게시글 제거
+     */
+    public synchronized void remove(Long boardId) {
+        if (candidates.remove(boardId) != null) {
+            dirty = true;
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBoardChanged(BoardChangedEvent event) {
+        if (event.getChangeType() == BoardChangeType.DELETED) {
+            remove(event.getBoardId());
+        }
+    }
+
+    /**
+     * DB 기준 후보 목록으로 교체
+     */
+    public synchronized void reload(List<GetBoardLikeCountResponse> boards) {
+        candidates.clear();
+        for (GetBoardLikeCountResponse board : boards) {
+            candidates.put(board.getBoardId(),
+                    new Candidate(board.getBoardId(), board.getRegTime(), board.getLikeCount()));
+        }
+        refresh();
+    }
+
+    private synchronized void refreshIfDirty() {
+        if (dirty) {
+            refresh();
+        }
+    }
+
+    /**
+     * 현재 시각 기준 점수로 재정렬 후 후보 수 제한
+     */
+    private void refresh() {
+        dirty = false;
+        LocalDateTime now = LocalDateTime.now();
+
+        List<Candidate> ranked = new ArrayList<>(candidates.values());
+        ranked.forEach(candidate -> candidate.score = candidate.score(now));
+        ranked.sort(Comparator.comparingDouble((Candidate candidate) -> candidate.score).reversed()
+                .thenComparing(candidate -> candidate.regTime, Comparator.reverseOrder())
+                .thenComparing(candidate -> candidate.boardId, Comparator.reverseOrder()));
+
+        for (int i = capacity; i < ranked.size(); i++) {
+            candidates.remove(ranked.get(i).boardId);
+        }
+
+        topBoardIds = ranked.stream()
+                .limit(size)
+                .map(candidate -> candidate.boardId)
+                .toList();
+    }
+
+    private static class Candidate {
+
+        private final Long boardId;
+        private final LocalDateTime regTime;
+        private long likeCount;
+        private double score;
+
+        private Candidate(Long boardId, LocalDateTime regTime, long likeCount) {
+            this.boardId = boardId;
+            this.regTime = regTime;
+            this.likeCount = likeCount;
+        }
+
+        private double score(LocalDateTime now) {
+            double ageHours = Math.max(0, Duration.between(regTime, now).toMinutes() / 60.0);
+            return likeCount / Math.pow(ageHours + 2, GRAVITY);
+        }
+    }
+}
@@ -8,7 +8,7 @@ import org.springframework.stereotype.Repository;
 import java.util.List;
 
 @Repository
-public interface BoardImgRepository extends JpaRepository<BoardImg, Long> {
+public interface BoardImgRepository extends JpaRepository<BoardImg, Long>, BoardImgRepositoryCustom {
 
     List<BoardImg> findAllByBoard(Board board);
 }
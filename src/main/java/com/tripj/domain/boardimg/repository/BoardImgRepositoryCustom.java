@@ -0,0 +1,10 @@
+package com.tripj.domain.boardimg.repository;
+
+import com.tripj.domain.boardimg.model.entity.BoardImg;
+
+import java.util.List;
+
+public interface BoardImgRepositoryCustom {
+
+    void batchInsert(List<BoardImg> boardImgs);
+}
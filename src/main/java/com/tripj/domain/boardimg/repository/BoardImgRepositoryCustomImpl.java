@@ -0,0 +1,31 @@
+package com.tripj.domain.boardimg.repository;
+
+import com.tripj.domain.boardimg.model.entity.BoardImg;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class BoardImgRepositoryCustomImpl implements BoardImgRepositoryCustom {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 게시글 이미지 일괄 등록
+     * IDENTITY 전략은 Hibernate batch insert 가 되지 않아 JDBC batch 로 한 번에 보낸다.
+     */
+    @Override
+    public void batchInsert(List<BoardImg> boardImgs) {
+        jdbcTemplate.batchUpdate(
+                "insert into board_img (url, path, board_id) values (?, ?, ?)",
+                boardImgs, boardImgs.size(),
+                (ps, boardImg) -> {
+                    ps.setString(1, boardImg.getUrl());
+                    ps.setString(2, boardImg.getPath());
+                    ps.setLong(3, boardImg.getBoard().getId());
+                });
+    }
+}
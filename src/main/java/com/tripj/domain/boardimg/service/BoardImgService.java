@@ -1,5 +1,6 @@
 package com.tripj.domain.boardimg.service;
 
+import com.tripj.domain.board.event.BoardChangedEvent;
 import com.tripj.domain.board.model.entity.Board;
 import com.tripj.domain.boardimg.model.entity.BoardImg;
 import com.tripj.domain.boardimg.repository.BoardImgRepository;
@@ -8,7 +9,9 @@ import com.tripj.global.code.ErrorCode;
 import com.tripj.global.error.exception.InvalidException;
 import com.tripj.global.util.FileUploadUtil;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -22,32 +25,51 @@ public class BoardImgService {
 
     private final BoardImgRepository boardImgRepository;
     private final FileUploadUtil fileUploadUtil;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
-     * 이미지 업로드
+     * 이미지 업로드 (DB 트랜잭션 밖에서 병렬 업로드)
      */
-    public void uploadBoardImg(Board board, List<MultipartFile> images) throws IOException {
-        for (MultipartFile img : images) {
-            if (!img.isEmpty()) {
-                FileUploadResponse imgResponse = fileUploadUtil.uploadFile("image", img);
-                boardImgRepository.save(BoardImg.newBoardImg(imgResponse.getFileUrl(), imgResponse.getFilePath(),board));
-            }
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<FileUploadResponse> uploadImages(List<MultipartFile> images) throws IOException {
+        List<MultipartFile> uploadImages = images.stream()
+                .filter(img -> !img.isEmpty())
+                .toList();
+
+        if (uploadImages.isEmpty()) {
+            return List.of();
         }
+        return fileUploadUtil.uploadFiles("image", uploadImages);
     }
 
     /**
-     * 이미지 수정
+     * 업로드한 이미지 등록
      */
-    public void updateImg(Board board, List<MultipartFile> images) throws IOException {
-        List<BoardImg> oldImages = deleteImagesInS3(board);
+    public void saveBoardImgs(Board board, List<FileUploadResponse> images) {
+        if (images.isEmpty()) {
+            return;
+        }
+        boardImgRepository.batchInsert(images.stream()
+                .map(img -> BoardImg.newBoardImg(img.getFileUrl(), img.getFilePath(), board))
+                .toList());
+    }
+
+    /**
+     * 이미지 수정 (기존 이미지를 새 이미지로 교체)
+     * 기존 이미지 파일은 커밋 이후 지울 수 있도록 경로를 반환한다.
+     */
+    public List<String> replaceBoardImgs(Board board, List<FileUploadResponse> images) {
+        List<BoardImg> oldImages = boardImgRepository.findAllByBoard(board);
         if (!oldImages.isEmpty()) {
             // 기존 이미지 삭제
             boardImgRepository.deleteAllInBatch(oldImages);
         }
-        if (images != null) {
-            // 새로운 이미지 업로드
-            uploadBoardImg(board, images);
-        }
+        saveBoardImgs(board, images);
+        eventPublisher.publishEvent(BoardChangedEvent.imageChanged(board.getId()));
+
+        return oldImages.stream()
+                .map(BoardImg::getPath)
+                .toList();
     }
 
     /**
@@ -56,12 +78,20 @@ public class BoardImgService {
     public List<BoardImg> deleteImagesInS3(Board board) {
         List<BoardImg> imgInS3 = boardImgRepository.findAllByBoard(board);
 
-        if (!imgInS3.isEmpty()) {
-            imgInS3.forEach(image -> fileUploadUtil.deleteFile(image.getPath()));
-        }
+        deleteFiles(imgInS3.stream()
+                .map(BoardImg::getPath)
+                .toList());
         return imgInS3;
     }
 
+    /**
+     * S3에서 파일 삭제
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void deleteFiles(List<String> paths) {
+        fileUploadUtil.deleteFiles(paths);
+    }
+
     /**
      * 업로드 가능 파일 개수 검증
      */
@@ -1,6 +1,5 @@
 package com.tripj.domain.checklist.model.dto.response;
 
-import com.tripj.domain.checklist.model.entity.CheckList;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -19,12 +18,8 @@ public class CreateCheckListResponse {
     @Schema(description = "여행 Id", example = "1")
     private Long tripId;
 
-    public static CreateCheckListResponse ofItem(CheckList checkList) {
-        return new CreateCheckListResponse(checkList.getId(), checkList.getItem().getId(), checkList.getTrip().getId());
-    }
-
-    public static CreateCheckListResponse ofFixedItem(CheckList checkList) {
-        return new CreateCheckListResponse(checkList.getId(), checkList.getFixedItem().getId(), checkList.getTrip().getId());
+    public static CreateCheckListResponse of(Long checkListId, Long itemId, Long tripId) {
+        return new CreateCheckListResponse(checkListId, itemId, tripId);
     }
 
 }
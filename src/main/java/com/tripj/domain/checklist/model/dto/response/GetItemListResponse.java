@@ -42,5 +42,11 @@ public class GetItemListResponse {
         this.itemType = itemType;
     }
 
+    public GetItemListResponse(Long itemId, String itemName, Long itemCateId,
+                               ItemType itemType, String addStatus) {
+        this(itemId, itemName, itemCateId, itemType);
+        this.addStatus = addStatus;
+    }
+
 
 }
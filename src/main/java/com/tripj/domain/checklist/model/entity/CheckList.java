@@ -11,6 +11,10 @@ import lombok.*;
 
 @Getter
 @Entity
+@Table(uniqueConstraints = {
+        @UniqueConstraint(name = "uk_check_list_trip_item",
+                columnNames = {"trip_id", "item_type", "item_ref_id"})
+})
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
@@ -40,27 +44,14 @@ public class CheckList extends BaseTimeEntity {
     @JoinColumn(name = "fixed_item_id")
     private FixedItem fixedItem;
 
-    private String pack;
-
-    public static CheckList newCheckList(Item item, User user, Trip trip, ItemType itemType) {
-        return CheckList.builder()
-                .item(item)
-                .user(user)
-                .trip(trip)
-                .pack("NO")
-                .itemType(itemType)
-                .build();
-    }
+    /**
+     * 담은 아이템 ID (사용자 추가 / 세트 아이템이면 item_id, 고정 아이템이면 fixed_item_id)
+     * 여행별 중복 추가를 unique 제약으로 막기 위한 컬럼
+     */
+    @Column(name = "item_ref_id")
+    private Long itemRefId;
 
-    public static CheckList newCheckList(FixedItem item, User user, Trip trip, ItemType itemType) {
-        return CheckList.builder()
-                .fixedItem(item)
-                .user(user)
-                .trip(trip)
-                .pack("NO")
-                .itemType(itemType)
-                .build();
-    }
+    private String pack;
 
     // 체크리스트에 담은 아이템 챙겼을시 update
     public void updatePack(Long checkListId, String yes) {
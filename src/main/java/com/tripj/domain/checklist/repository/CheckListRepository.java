@@ -8,8 +8,6 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.util.Optional;
-
 @Repository
 public interface CheckListRepository extends JpaRepository<CheckList, Long>, CheckListRepositoryCustom {
 
@@ -24,21 +22,15 @@ public interface CheckListRepository extends JpaRepository<CheckList, Long>, Che
 //    @Query("select max(cl.previous) from CheckList cl where cl.trip.id = :tripId and cl.previous like '%B'")
 //    String findMaxPrevious(@Param("tripId") Long tripId);
 
-    @Query("select cl from CheckList cl join Trip t on cl.trip.id = t.id " +
-            "where cl.user.id = :userId " +
-            "and (cl.item.id = :itemId or cl.fixedItem.id = :itemId) " +
-            "and cl.trip.id = :tripId " +
-            "and t.previous = 'NOW' " +
-            "and cl.itemType = :itemType")
-    Optional<CheckList> findCheckListByUserItemAndCurrentTrip(@Param("userId") Long userId, @Param("itemId") Long itemId, @Param("tripId") Long tripId, @Param("itemType")ItemType itemType);
+    boolean existsByTripIdAndItemTypeAndItemRefId(Long tripId, ItemType itemType, Long itemRefId);
 
     @Modifying
     @Query("DELETE FROM CheckList c WHERE c.item.id = :itemId")
     void deleteByItemId(Long itemId);
 
     @Modifying
-    @Query("DELETE FROM CheckList c WHERE c.fixedItem.id = :fixedItemId")
-    void deleteByFixedItemId(Long fixedItemId);
+    @Query("DELETE FROM CheckList c WHERE c.trip.id = :tripId AND c.fixedItem.id = :fixedItemId")
+    void deleteByTripIdAndFixedItemId(@Param("tripId") Long tripId, @Param("fixedItemId") Long fixedItemId);
 
     void deleteByUserId(Long id);
 }
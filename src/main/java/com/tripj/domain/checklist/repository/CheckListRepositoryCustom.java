@@ -2,10 +2,14 @@ package com.tripj.domain.checklist.repository;
 
 import com.tripj.domain.checklist.model.dto.response.GetCheckListResponse;
 import com.tripj.domain.checklist.model.dto.response.GetMyCheckListResponse;
+import com.tripj.domain.item.constant.ItemType;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface CheckListRepositoryCustom {
 
     List<GetCheckListResponse> getCheckList(Long userId, Long tripId);
+    Optional<Long> insertItem(Long userId, Long tripId, Long itemId, ItemType itemType);
+    Optional<Long> insertFixedItem(Long userId, Long tripId, Long fixedItemId);
 }
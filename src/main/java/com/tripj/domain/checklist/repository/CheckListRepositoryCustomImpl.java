@@ -4,9 +4,18 @@ import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.tripj.domain.checklist.model.dto.response.GetCheckListResponse;
 import com.tripj.domain.checklist.model.dto.response.QGetCheckListResponse;
+import com.tripj.domain.item.constant.ItemType;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
 
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 import static com.tripj.domain.checklist.model.entity.QCheckList.checkList;
 import static com.tripj.domain.item.model.entity.QFixedItem.fixedItem;
@@ -17,9 +26,11 @@ import static com.tripj.domain.trip.model.entity.QTrip.trip;
 public class CheckListRepositoryCustomImpl implements CheckListRepositoryCustom {
 
     private final JPAQueryFactory queryFactory;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
 
-    public CheckListRepositoryCustomImpl(JPAQueryFactory queryFactory) {
+    public CheckListRepositoryCustomImpl(JPAQueryFactory queryFactory, NamedParameterJdbcTemplate jdbcTemplate) {
         this.queryFactory = queryFactory;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     @Override
@@ -52,6 +63,67 @@ public class CheckListRepositoryCustomImpl implements CheckListRepositoryCustom
         return results;
     }
 
-}
+    /**
+     * 진행중인 본인 여행에 등록한 아이템을 체크리스트에 추가 (조건에 맞지 않거나 이미 담았으면 추가하지 않음)
+     */
+    @Override
+    public Optional<Long> insertItem(Long userId, Long tripId, Long itemId, ItemType itemType) {
+        return insertSelect(
+                "select i.item_id, null, i.item_id, t.trip_id, t.user_id, i.item_type, 'NO', :now, :now " +
+                "from trip t " +
+                "join item i on i.trip_id = t.trip_id " +
+                "where t.trip_id = :tripId and t.user_id = :userId and t.is_current = true " +
+                "and i.item_id = :itemId and i.user_id = :userId and i.item_type = :itemType " +
+                "and (i.fixed_item_delyn is null or i.fixed_item_delyn <> 'Y')",
+                new MapSqlParameterSource()
+                        .addValue("userId", userId)
+                        .addValue("tripId", tripId)
+                        .addValue("itemId", itemId)
+                        .addValue("itemType", itemType.name()));
+    }
 
+    /**
+     * 진행중인 본인 여행에서 숨기지 않은 고정 아이템을 체크리스트에 추가
+     * 숨김 여부는 trip.hidden_fixed_items 비트셋(little-endian, 바이트당 8개)의 해당 비트로 확인한다.
+     */
+    @Override
+    public Optional<Long> insertFixedItem(Long userId, Long tripId, Long fixedItemId) {
+        return insertSelect(
+                "select null, :fixedItemId, :fixedItemId, t.trip_id, t.user_id, 'FIXED', 'NO', :now, :now " +
+                "from trip t " +
+                "where t.trip_id = :tripId and t.user_id = :userId and t.is_current = true " +
+                "and (ascii(substring(coalesce(t.hidden_fixed_items, ''), :hiddenByte, 1)) & :hiddenMask) = 0",
+                new MapSqlParameterSource()
+                        .addValue("userId", userId)
+                        .addValue("tripId", tripId)
+                        .addValue("fixedItemId", fixedItemId)
+                        .addValue("hiddenByte", fixedItemId / 8 + 1)
+                        .addValue("hiddenMask", 1 << (fixedItemId % 8)));
+    }
 
+    /**
+     * insert ... select 한 번으로 검증과 추가를 같이 처리
+     * 조건에 맞지 않거나 uk_check_list_trip_item 중복이면 empty
+     * (insert ignore 는 FK 위반/값 잘림도 경고로 바꿔 숨기므로 중복 키만 따로 처리한다)
+     */
+    private Optional<Long> insertSelect(String select, MapSqlParameterSource params) {
+        params.addValue("now", Timestamp.valueOf(LocalDateTime.now()));
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+
+        int inserted;
+        try {
+            inserted = jdbcTemplate.update(
+                    "insert into check_list " +
+                    "(item_id, fixed_item_id, item_ref_id, trip_id, user_id, item_type, pack, reg_time, update_time) " +
+                    select,
+                    params, keyHolder, new String[]{"checklist_id"});
+        } catch (DuplicateKeyException e) {
+            return Optional.empty();
+        }
+
+        if (inserted == 0) {
+            return Optional.empty();
+        }
+        return Optional.of(keyHolder.getKey().longValue());
+    }
+}
@@ -4,13 +4,10 @@ import com.tripj.domain.checklist.model.dto.request.CreateCheckListRequest;
 import com.tripj.domain.checklist.model.dto.response.*;
 import com.tripj.domain.checklist.model.entity.CheckList;
 import com.tripj.domain.checklist.repository.CheckListRepository;
+import com.tripj.domain.item.catalog.ItemCatalog;
 import com.tripj.domain.item.constant.ItemType;
-import com.tripj.domain.item.model.entity.FixedItem;
-import com.tripj.domain.item.model.entity.Item;
-import com.tripj.domain.item.repository.ItemRepository;
-import com.tripj.domain.trip.model.entity.Trip;
 import com.tripj.domain.trip.repository.TripRepository;
-import com.tripj.domain.user.model.entity.User;
+import com.tripj.domain.trip.service.CurrentTripCache;
 import com.tripj.domain.user.repository.UserRepository;
 import com.tripj.global.error.exception.BusinessException;
 import com.tripj.global.error.exception.ForbiddenException;
@@ -31,8 +28,9 @@ public class CheckListService {
 
     private final CheckListRepository checkListRepository;
     private final UserRepository userRepository;
-    private final ItemRepository itemRepository;
     private final TripRepository tripRepository;
+    private final CurrentTripCache currentTripCache;
+    private final ItemCatalog itemCatalog;
 
     /**
      * 체크리스트에 담은 아이템 일괄 조회
@@ -51,65 +49,60 @@ public class CheckListService {
 
     /**
      * 아이템을 체크리스트에 추가
+     * 여행 소유 / 아이템 / 중복 확인을 insert ignore ... select 한 문장으로 처리하고,
+     * 추가된 행이 없을 때만 추가 조회로 거절 사유를 구분한다.
      */
     public CreateCheckListResponse createCheckList(CreateCheckListRequest request,
                                                    Long userId) {
 
-        User user = userRepository.findById(userId)
-            .orElseThrow(() -> new NotFoundException(E404_NOT_EXISTS_USER));
-
-        // 지난 여행에 아이템을 체크리스트에 등록 불가
-        Trip trip = tripRepository.findByPreviousIsNow(request.getTripId())
-            .orElseThrow(() -> new NotFoundException(E404_NOT_EXISTS_NOW_TRIP));
+        Long tripId = request.getTripId();
+        Long itemId = request.getItemId();
+        ItemType itemType = request.getItemType();
 
-        GetItemListResponse item = itemRepository.getItem(userId, request.getItemId(), request.getItemType());
-        if (item == null) {
-            throw new NotFoundException(E404_NOT_EXISTS_NOW_TRIP);
+        // 지난 여행에 아이템을 체크리스트에 등록 불가 (캐시로 확인하고, 아니면 DB 에서 거절 사유 구분)
+        if (!currentTripCache.isCurrentTrip(userId, tripId)) {
+            throw rejectTrip(userId, tripId);
         }
 
-        // 중복 체크
-        Optional<CheckList> existingCheckList =
-                checkListRepository.findCheckListByUserItemAndCurrentTrip(
-                        userId, request.getItemId(), trip.getId(), request.getItemType());
-        if (existingCheckList.isPresent()) {
-            throw new BusinessException(ALREADY_EXISTS_CHECKLIST);
-        }
-
-        // 사용자 추가 아이템, 고정 아이템에 따라 다르게 체크리스트에 추가
-        if (trip.getUser().getId().equals(userId)) {
-            CheckList checkList;
-
-            if (request.getItemType() == ItemType.FIXED) {
-                FixedItem fixedItemEntity = convertToFixedItem(item);
-                checkList = request.toEntity(fixedItemEntity, user, trip, request.getItemType());
-                CheckList savedCheckList = checkListRepository.save(checkList);
-                return CreateCheckListResponse.ofFixedItem(savedCheckList);
-            } else {
-                Item itemEntity = convertToItem(item);
-                checkList = request.toEntity(itemEntity, user, trip, request.getItemType());
-                CheckList savedCheckList = checkListRepository.save(checkList);
-                return CreateCheckListResponse.ofItem(savedCheckList);
-            }
-
+        // 고정 아이템은 카탈로그로 확인 (여행에서 숨겼는지는 insert 조건으로 확인)
+        Optional<Long> checkListId;
+        if (itemType == ItemType.FIXED) {
+            itemCatalog.snapshot().findFixedItem(itemId)
+                    .filter(fixedItem -> fixedItem.getItemType() == ItemType.FIXED)
+                    .orElseThrow(() -> new NotFoundException(E404_NOT_EXISTS_ITEM));
+            checkListId = checkListRepository.insertFixedItem(userId, tripId, itemId);
         } else {
-            throw new ForbiddenException(NOT_MY_CHECKLIST);
+            checkListId = checkListRepository.insertItem(userId, tripId, itemId, itemType);
         }
+
+        return CreateCheckListResponse.of(
+                checkListId.orElseThrow(() -> rejectInsert(tripId, itemId, itemType)), itemId, tripId);
     }
 
-    private Item convertToItem(GetItemListResponse response) {
-        return Item.builder()
-                .id(response.getItemId())
-                .itemName(response.getItemName())
-                .itemType(response.getItemType())
-                .build();
+    /**
+     * 진행중인 본인 여행이 아닐 때 거절 사유 (회원 없음 > 진행중 여행 없음 > 남의 여행)
+     */
+    private RuntimeException rejectTrip(Long userId, Long tripId) {
+        if (!userRepository.existsById(userId)) {
+            return new NotFoundException(E404_NOT_EXISTS_USER);
+        }
+        if (tripRepository.findCurrentTripById(tripId).isEmpty()) {
+            return new NotFoundException(E404_NOT_EXISTS_NOW_TRIP);
+        }
+        return new ForbiddenException(NOT_MY_CHECKLIST);
     }
 
-    private FixedItem convertToFixedItem(GetItemListResponse response) {
-        return FixedItem.builder()
-                .id(response.getItemId())
-                .itemName(response.getItemName())
-                .itemType(response.getItemType())
-                .build();
+    /**
+     * 추가된 행이 없을 때 거절 사유 (이미 담음 > 그 사이 지난 여행으로 변경 > 아이템 없음 / 숨김)
+     */
+    private RuntimeException rejectInsert(Long tripId, Long itemId, ItemType itemType) {
+        if (checkListRepository.existsByTripIdAndItemTypeAndItemRefId(tripId, itemType, itemId)) {
+            return new BusinessException(ALREADY_EXISTS_CHECKLIST);
+        }
+        if (tripRepository.findCurrentTripById(tripId).isEmpty()) {
+            return new NotFoundException(E404_NOT_EXISTS_NOW_TRIP);
+        }
+        return new NotFoundException(E404_NOT_EXISTS_ITEM);
     }
 
     /**
@@ -1,16 +1,20 @@
 package com.tripj.domain.comment.model.entity;
 
 import com.tripj.domain.board.model.entity.Board;
+import com.tripj.domain.common.entity.BaseTimeEntity;
 import com.tripj.domain.user.model.entity.User;
 import jakarta.persistence.*;
 import lombok.*;
 
 @Getter
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_comment_board_reg_time_id", columnList = "board_id, reg_time, comment_id")
+})
 @Builder
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-public class Comment {
+public class Comment extends BaseTimeEntity {
 
     @Id
     @Column(name = "comment_id")
@@ -0,0 +1,10 @@
+package com.tripj.domain.comment.repository;
+
+import com.tripj.domain.board.model.dto.response.GetBoardCommentResponse;
+import com.tripj.global.model.Cursor;
+import com.tripj.global.model.CursorSlice;
+
+public interface CommentRepositoryCustom {
+
+    CursorSlice<GetBoardCommentResponse> getBoardComment(Long boardId, Cursor cursor, int size);
+}
@@ -0,0 +1,67 @@
+package com.tripj.domain.comment.repository;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.tripj.domain.board.model.dto.response.GetBoardCommentResponse;
+import com.tripj.domain.board.model.dto.response.QGetBoardCommentResponse;
+import com.tripj.global.model.Cursor;
+import com.tripj.global.model.CursorSlice;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+import static com.tripj.domain.comment.model.entity.QComment.comment;
+import static com.tripj.domain.user.model.entity.QUser.user;
+
+@Repository
+public class CommentRepositoryCustomImpl implements CommentRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+
+    public CommentRepositoryCustomImpl(JPAQueryFactory queryFactory) {
+        this.queryFactory = queryFactory;
+    }
+
+    /**
+     * 게시글 댓글 등록순 (regTime, commentId) 커서 페이징
+     */
+    @Override
+    public CursorSlice<GetBoardCommentResponse> getBoardComment(Long boardId, Cursor cursor, int size) {
+        List<GetBoardCommentResponse> results = queryFactory
+                .select(new QGetBoardCommentResponse(
+                        comment.id,
+                        user.id,
+                        user.nickname,
+                        user.profile,
+                        comment.board.id,
+                        comment.content,
+                        comment.regTime
+                ))
+                .from(comment)
+                .join(comment.user, user)
+                .where(comment.board.id.eq(boardId),
+                        afterCursor(cursor))
+                .orderBy(comment.regTime.asc(), comment.id.asc())
+                .limit(size + 1)
+                .fetch();
+
+        return CursorSlice.of(results, size,
+                result -> Cursor.of(result.getRegTime(), result.getId()));
+    }
+
+    /**
+     * 등록일이 없는 댓글은 정렬상 맨 앞(null first)이라, 그 구간의 커서면 ID 로 이어간 뒤 등록일 있는 댓글 전체
+     */
+    private BooleanExpression afterCursor(Cursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        if (cursor.getRegTime() == null) {
+            return comment.regTime.isNull().and(comment.id.gt(cursor.getId()))
+                    .or(comment.regTime.isNotNull());
+        }
+        return comment.regTime.gt(cursor.getRegTime())
+                .or(comment.regTime.eq(cursor.getRegTime())
+                        .and(comment.id.gt(cursor.getId())));
+    }
+}
@@ -1,5 +1,6 @@
 package com.tripj.domain.comment.service;
 
+import com.tripj.domain.board.event.BoardChangedEvent;
 import com.tripj.domain.board.model.entity.Board;
 import com.tripj.domain.board.repository.BoardRepository;
 import com.tripj.domain.comment.model.dto.request.CreateCommentRequest;
@@ -13,6 +14,7 @@ import com.tripj.global.code.ErrorCode;
 import com.tripj.global.error.exception.ForbiddenException;
 import com.tripj.global.error.exception.NotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,6 +26,7 @@ public class CommentService {
     private final UserRepository userRepository;
     private final BoardRepository boardRepository;
     private final CommentRepository commentRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 댓글 등록
@@ -38,6 +41,8 @@ public class CommentService {
             .orElseThrow(() -> new NotFoundException(ErrorCode.E404_NOT_EXISTS_BOARD));
 
         Comment savedComment = commentRepository.save(request.toEntity(user, board));
+        boardRepository.updateCommentCount(board.getId(), 1);
+        eventPublisher.publishEvent(BoardChangedEvent.commentChanged(board.getId()));
 
         return CreateCommentResponse.of(savedComment);
     }
@@ -77,6 +82,8 @@ public class CommentService {
 
         if (comment.getUser().getId().equals(userId)) {
             commentRepository.deleteById(commentId);
+            boardRepository.updateCommentCount(comment.getBoard().getId(), -1);
+            eventPublisher.publishEvent(BoardChangedEvent.commentChanged(comment.getBoard().getId()));
         } else {
             throw new ForbiddenException(ErrorCode.E403_NOT_MY_COMMENT);
         }
@@ -0,0 +1,29 @@
+package com.tripj.domain.item.catalog;
+
+import com.tripj.domain.item.constant.FixStatus;
+import com.tripj.domain.item.constant.ItemType;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 카탈로그에 적재된 고정 아이템 (불변)
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PACKAGE)
+public class CatalogFixedItem {
+
+    private final Long fixedItemId;
+
+    private final String itemName;
+
+    private final Long itemCateId;
+
+    private final ItemType itemType;
+
+    private final FixStatus fixStatus;
+
+    public boolean isVisible() {
+        return fixStatus == FixStatus.Y;
+    }
+}
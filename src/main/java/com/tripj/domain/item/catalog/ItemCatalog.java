@@ -0,0 +1,60 @@
+package com.tripj.domain.item.catalog;
+
+import com.tripj.domain.item.model.entity.FixedItem;
+import com.tripj.domain.item.repository.FixedItemRepository;
+import com.tripj.domain.itemcate.model.entity.ItemCate;
+import com.tripj.domain.itemcate.repository.ItemCateRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 아이템 카테고리 / 고정 아이템 카탈로그 (메모리)
+ * 기동 시 웹 서버가 뜨기 전에 적재하고, 관리자 재적재 요청이나 주기적인 fingerprint 비교로 변경분을 반영한다.
+ * 조회는 항상 한 스냅샷을 통째로 읽어 요청 중간에 데이터가 섞이지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ItemCatalog implements SmartInitializingSingleton {
+
+    private final ItemCateRepository itemCateRepository;
+    private final FixedItemRepository fixedItemRepository;
+
+    private volatile ItemCatalogSnapshot snapshot = ItemCatalogSnapshot.EMPTY;
+
+    /**
+     * 웹 서버가 요청을 받기 전에 카탈로그 적재 (빈 카탈로그로 응답하지 않도록)
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        reload();
+    }
+
+    public ItemCatalogSnapshot snapshot() {
+        return snapshot;
+    }
+
+    /**
+     * DB 에서 다시 읽어 내용이 바뀐 경우에만 새 버전으로 교체 (교체 여부 반환)
+     */
+    public synchronized boolean reload() {
+        List<ItemCate> itemCates = itemCateRepository.findAll(Sort.by("id"));
+        List<FixedItem> fixedItems = fixedItemRepository.findAll(Sort.by("id"));
+
+        ItemCatalogSnapshot current = snapshot;
+        ItemCatalogSnapshot loaded = ItemCatalogSnapshot.of(current.getVersion() + 1, itemCates, fixedItems);
+        if (loaded.getFingerprint().equals(current.getFingerprint())) {
+            return false;
+        }
+
+        snapshot = loaded;
+        log.info("item catalog loaded. version={}, itemCates={}, fixedItems={}",
+                loaded.getVersion(), loaded.getItemCates().size(), loaded.getFixedItems().size());
+        return true;
+    }
+}
@@ -0,0 +1,93 @@
+package com.tripj.domain.item.catalog;
+
+import com.tripj.domain.item.model.entity.FixedItem;
+import com.tripj.domain.itemcate.model.dto.response.GetItemCateResponse;
+import com.tripj.domain.itemcate.model.entity.ItemCate;
+import lombok.Getter;
+import org.apache.commons.codec.digest.DigestUtils;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 아이템 카테고리 / 고정 아이템 카탈로그 스냅샷 (불변)
+ * 원본 행으로 계산한 fingerprint 가 같으면 같은 데이터로 본다.
+ */
+@Getter
+public class ItemCatalogSnapshot {
+
+    static final ItemCatalogSnapshot EMPTY = new ItemCatalogSnapshot(
+            0L, "", null, List.of(), List.of());
+
+    private final long version;
+
+    private final String fingerprint;
+
+    private final LocalDateTime loadedAt;
+
+    private final List<GetItemCateResponse> itemCates;
+
+    /**
+     * 노출중(fixStatus = Y)인 고정 아이템 (ID 순)
+     */
+    private final List<CatalogFixedItem> visibleFixedItems;
+
+    private final Set<Long> itemCateIds;
+
+    private final Map<Long, CatalogFixedItem> fixedItems;
+
+    private ItemCatalogSnapshot(long version, String fingerprint, LocalDateTime loadedAt,
+                                List<GetItemCateResponse> itemCates, List<CatalogFixedItem> fixedItems) {
+        this.version = version;
+        this.fingerprint = fingerprint;
+        this.loadedAt = loadedAt;
+        this.itemCates = List.copyOf(itemCates);
+        this.visibleFixedItems = fixedItems.stream()
+                .filter(CatalogFixedItem::isVisible)
+                .toList();
+
+        Set<Long> itemCateIds = new HashSet<>();
+        itemCates.forEach(itemCate -> itemCateIds.add(itemCate.getItemCateId()));
+        this.itemCateIds = Collections.unmodifiableSet(itemCateIds);
+
+        Map<Long, CatalogFixedItem> fixedItemMap = new HashMap<>();
+        fixedItems.forEach(fixedItem -> fixedItemMap.put(fixedItem.getFixedItemId(), fixedItem));
+        this.fixedItems = Collections.unmodifiableMap(fixedItemMap);
+    }
+
+    /**
+     * ID 순으로 정렬된 원본 행으로 스냅샷 생성
+     */
+    static ItemCatalogSnapshot of(long version, List<ItemCate> itemCates, List<FixedItem> fixedItems) {
+        StringBuilder source = new StringBuilder();
+        List<GetItemCateResponse> itemCateResponses = new ArrayList<>(itemCates.size());
+        for (ItemCate itemCate : itemCates) {
+            itemCateResponses.add(GetItemCateResponse.of(itemCate.getId(), itemCate.getItemCateName()));
+            source.append("C|").append(itemCate.getId()).append('|')
+                    .append(itemCate.getItemCateName()).append('\n');
+        }
+
+        List<CatalogFixedItem> catalogFixedItems = new ArrayList<>(fixedItems.size());
+        for (FixedItem fixedItem : fixedItems) {
+            Long itemCateId = fixedItem.getItemCate() == null ? null : fixedItem.getItemCate().getId();
+            catalogFixedItems.add(new CatalogFixedItem(fixedItem.getId(), fixedItem.getItemName(),
+                    itemCateId, fixedItem.getItemType(), fixedItem.getFixStatus()));
+            source.append("F|").append(fixedItem.getId()).append('|')
+                    .append(fixedItem.getItemName()).append('|')
+                    .append(itemCateId).append('|')
+                    .append(fixedItem.getItemType()).append('|')
+                    .append(fixedItem.getFixStatus()).append('\n');
+        }
+
+        return new ItemCatalogSnapshot(version, DigestUtils.sha256Hex(source.toString()),
+                LocalDateTime.now(), itemCateResponses, catalogFixedItems);
+    }
+
+    public Optional<CatalogFixedItem> findFixedItem(Long fixedItemId) {
+        return Optional.ofNullable(fixedItems.get(fixedItemId));
+    }
+
+    public boolean containsItemCate(Long itemCateId) {
+        return itemCateIds.contains(itemCateId);
+    }
+}
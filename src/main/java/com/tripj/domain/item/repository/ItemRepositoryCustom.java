@@ -1,13 +1,13 @@
 package com.tripj.domain.item.repository;
 
-import com.tripj.domain.checklist.model.dto.response.GetItemListResponse;
-import com.tripj.domain.item.constant.ItemType;
+import com.tripj.domain.item.model.entity.Item;
 
 import java.util.List;
 
 public interface ItemRepositoryCustom {
 
-    List<GetItemListResponse> getItemList(Long userId);
-    GetItemListResponse getItem(Long userId, Long itemId, ItemType itemType);
+    UserItemRows getItemList(Long userId, Long tripId);
+    UserItemRows getFixedItemMarks(Long userId, Long tripId);
+    List<Long> batchInsert(List<Item> items);
 
 }
@@ -1,119 +1,133 @@
 package com.tripj.domain.item.repository;
 
-import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.tripj.domain.checklist.model.dto.response.GetItemListResponse;
-import com.tripj.domain.checklist.model.dto.response.QGetItemListResponse;
-import com.tripj.domain.item.constant.FixStatus;
 import com.tripj.domain.item.constant.ItemType;
-import com.tripj.global.code.ErrorCode;
-import com.tripj.global.error.exception.NotFoundException;
+import com.tripj.domain.item.model.entity.Item;
+import com.tripj.domain.trip.model.entity.Trip;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
-import static com.tripj.domain.item.model.entity.QFixedItem.fixedItem;
-import static com.tripj.domain.item.model.entity.QItem.item;
-import static com.tripj.domain.itemcate.model.entity.QItemCate.itemCate;
-import static com.tripj.domain.trip.model.entity.QTrip.trip;
-
 @Repository
 public class ItemRepositoryCustomImpl implements ItemRepositoryCustom {
 
-    private final JPAQueryFactory queryFactory;
+    /**
+     * 해당 여행에 회원이 등록한 아이템 (삭제 표시된 고정 아이템 제외, 체크리스트 추가 여부 포함)
+     */
+    private static final String TRIP_ITEMS =
+            "select 'ITEM' as kind, i.item_id, i.item_name, i.item_cate_id, i.item_type, " +
+            "case when c.item_id is null then 'NOT_YET' else 'ALREADY' end as add_status, " +
+            "null as hidden_fixed_items " +
+            "from item i " +
+            "left join (" +
+            "select distinct cl.item_id, cl.item_type from check_list cl " +
+            "where cl.user_id = :userId and cl.trip_id = :tripId and cl.item_id is not null" +
+            ") c on c.item_id = i.item_id and c.item_type = i.item_type " +
+            "where i.trip_id = :tripId and i.user_id = :userId " +
+            "and (i.fixed_item_delyn is null or i.fixed_item_delyn <> 'Y')";
+
+    /**
+     * 해당 여행에서 숨긴 고정 아이템 비트셋 / 해당 여행 체크리스트에 담은 고정 아이템 ID
+     */
+    private static final String FIXED_ITEM_MARKS =
+            "select 'HIDDEN' as kind, t.trip_id as item_id, " +
+            "null as item_name, null as item_cate_id, null as item_type, null as add_status, " +
+            "t.hidden_fixed_items " +
+            "from trip t where t.trip_id = :tripId and t.user_id = :userId " +
+            "union all " +
+            "select 'CHECKED', cl.fixed_item_id, null, null, null, null, null " +
+            "from check_list cl where cl.user_id = :userId and cl.trip_id = :tripId " +
+            "and cl.item_id is null and cl.fixed_item_id is not null";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
 
-    public ItemRepositoryCustomImpl(JPAQueryFactory queryFactory) {
-        this.queryFactory = queryFactory;
+    public ItemRepositoryCustomImpl(JdbcTemplate jdbcTemplate, NamedParameterJdbcTemplate namedJdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = namedJdbcTemplate;
     }
 
     @Override
-    public List<GetItemListResponse> getItemList(Long userId) {
-        List<GetItemListResponse> tripItems = queryFactory
-                .select(new QGetItemListResponse(
-                        item.id,
-                        item.itemName,
-                        itemCate.id,
-                        item.itemType
-                ))
-                .from(item)
-                .join(item.trip, trip)
-                .join(item.itemCate, itemCate)
-                .where(
-                        trip.previous.eq("NOW"),
-                        item.user.id.eq(userId),
-                        item.fixedItemDelYN.isNull().or(item.fixedItemDelYN.ne("Y"))
-                )
-                .fetch();
+    public UserItemRows getItemList(Long userId, Long tripId) {
+        return findUserItemRows(TRIP_ITEMS + " union all " + FIXED_ITEM_MARKS, userId, tripId);
+    }
 
-        List<GetItemListResponse> fixedItems = queryFactory
-                .select(new QGetItemListResponse(
-                        fixedItem.id,
-                        fixedItem.itemName,
-                        itemCate.id,
-                        fixedItem.itemType
-                ))
-                .from(fixedItem)
-                .join(fixedItem.itemCate, itemCate)
-                .leftJoin(item)
-                .on(fixedItem.id.eq(item.fixedItem.id)
-                        .and(item.user.id.eq(userId)))
-                .where(
-                        item.fixedItemDelYN.isNull().or(item.fixedItemDelYN.ne("Y")),
-                        fixedItem.fixStatus.eq(FixStatus.valueOf("Y"))
-                )
-                .fetch();
+    @Override
+    public UserItemRows getFixedItemMarks(Long userId, Long tripId) {
+        return findUserItemRows(FIXED_ITEM_MARKS, userId, tripId);
+    }
+
+    /**
+     * 아이템 / 고정 아이템 표시 행을 한 번에 읽어 종류(kind)별로 나눠 담는다.
+     */
+    private UserItemRows findUserItemRows(String rows, Long userId, Long tripId) {
+        UserItemRows result = new UserItemRows();
 
-        tripItems.addAll(fixedItems);
+        namedJdbcTemplate.query("select * from (" + rows + ") x order by x.item_id",
+                new MapSqlParameterSource()
+                        .addValue("userId", userId)
+                        .addValue("tripId", tripId),
+                rs -> {
+                    switch (rs.getString("kind")) {
+                        case "ITEM" -> result.getTripItems().add(new GetItemListResponse(
+                                rs.getLong("item_id"),
+                                rs.getString("item_name"),
+                                rs.getLong("item_cate_id"),
+                                ItemType.valueOf(rs.getString("item_type")),
+                                rs.getString("add_status")));
+                        case "HIDDEN" -> result.hideFixedItems(
+                                Trip.hiddenFixedItemsOf(rs.getBytes("hidden_fixed_items")));
+                        case "CHECKED" -> result.getCheckedFixedItemIds().add(rs.getLong("item_id"));
+                        default -> throw new IllegalStateException("unknown item row kind");
+                    }
+                });
 
-        return tripItems;
+        return result;
     }
 
+    /**
+     * 아이템 일괄 등록 후 생성된 ID 를 등록 순서대로 반환
+     * IDENTITY 전략은 Hibernate batch insert 가 되지 않아 JDBC batch 로 한 번에 보낸다.
+     */
     @Override
-    public GetItemListResponse getItem(Long userId, Long itemId, ItemType itemType) {
-        GetItemListResponse tripItem = queryFactory
-                .select(new QGetItemListResponse(
-                        item.id,
-                        item.itemName,
-                        itemCate.id,
-                        item.itemType
-                ))
-                .from(item)
-                .join(item.trip, trip)
-                .join(item.itemCate, itemCate)
-                .where(
-                        item.id.eq(itemId),
-                        item.itemType.eq(itemType),
-                        trip.previous.eq("NOW"),
-                        item.user.id.eq(userId),
-                        item.fixedItemDelYN.isNull().or(item.fixedItemDelYN.ne("Y"))
-                )
-                .fetchOne();
+    public List<Long> batchInsert(List<Item> items) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
 
-        GetItemListResponse fixedItems = queryFactory
-                .select(new QGetItemListResponse(
-                        fixedItem.id,
-                        fixedItem.itemName,
-                        itemCate.id,
-                        fixedItem.itemType
-                ))
-                .from(fixedItem)
-                .join(fixedItem.itemCate, itemCate)
-                .leftJoin(item)
-                .on(fixedItem.id.eq(item.fixedItem.id)
-                        .and(item.user.id.eq(userId)))
-                .where(
-                        fixedItem.id.eq(itemId),
-                        fixedItem.itemType.eq(itemType),
-                        item.fixedItemDelYN.isNull().or(item.fixedItemDelYN.ne("Y")))
-                .fetchOne();
-
-        if (tripItem != null) {
-            return tripItem;
-        } else if (fixedItems != null) {
-            return fixedItems;
-        } else {
-            throw new NotFoundException(ErrorCode.E404_NOT_EXISTS_ITEM);
-        }
+        return jdbcTemplate.execute((ConnectionCallback<List<Long>>) connection -> {
+            try (PreparedStatement ps = connection.prepareStatement(
+                    "insert into item (item_name, user_id, item_cate_id, trip_id, item_type, reg_time, update_time) " +
+                    "values (?, ?, ?, ?, ?, ?, ?)",
+                    Statement.RETURN_GENERATED_KEYS)) {
+                for (Item newItem : items) {
+                    ps.setString(1, newItem.getItemName());
+                    ps.setLong(2, newItem.getUser().getId());
+                    ps.setLong(3, newItem.getItemCate().getId());
+                    ps.setLong(4, newItem.getTrip().getId());
+                    ps.setString(5, newItem.getItemType().name());
+                    ps.setTimestamp(6, now);
+                    ps.setTimestamp(7, now);
+                    ps.addBatch();
+                }
+                ps.executeBatch();
 
+                List<Long> ids = new ArrayList<>(items.size());
+                try (ResultSet keys = ps.getGeneratedKeys()) {
+                    while (keys.next()) {
+                        ids.add(keys.getLong(1));
+                    }
+                }
+                return ids;
+            }
+        });
     }
-
 }
@@ -0,0 +1,42 @@
+package com.tripj.domain.item.repository;
+
+import com.tripj.domain.checklist.model.dto.response.GetItemListResponse;
+import com.tripj.domain.trip.model.entity.Trip;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 아이템 목록 조회용 회원 데이터
+ * 고정 아이템 자체는 카탈로그에서 읽고, 여행별 숨김 / 체크리스트 추가 여부만 담는다.
+ */
+@Getter
+public class UserItemRows {
+
+    /**
+     * 해당 여행에 회원이 등록한 아이템 (체크리스트 추가 여부 포함)
+     */
+    private final List<GetItemListResponse> tripItems = new ArrayList<>();
+
+    /**
+     * 해당 여행에서 회원이 삭제한 고정 아이템 (비트 인덱스 = 고정 아이템 ID)
+     */
+    private BitSet hiddenFixedItems = new BitSet();
+
+    /**
+     * 해당 여행 체크리스트에 담은 고정 아이템 ID
+     */
+    private final Set<Long> checkedFixedItemIds = new HashSet<>();
+
+    void hideFixedItems(BitSet hiddenFixedItems) {
+        this.hiddenFixedItems = hiddenFixedItems;
+    }
+
+    public boolean isHidden(Long fixedItemId) {
+        return Trip.isHideableFixedItemId(fixedItemId) && hiddenFixedItems.get(fixedItemId.intValue());
+    }
+}
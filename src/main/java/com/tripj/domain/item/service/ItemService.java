@@ -1,8 +1,10 @@
 package com.tripj.domain.item.service;
 
-import com.tripj.domain.checklist.model.dto.response.GetCheckListResponse;
 import com.tripj.domain.checklist.model.dto.response.GetItemListResponse;
 import com.tripj.domain.checklist.repository.CheckListRepository;
+import com.tripj.domain.item.catalog.CatalogFixedItem;
+import com.tripj.domain.item.catalog.ItemCatalog;
+import com.tripj.domain.item.catalog.ItemCatalogSnapshot;
 import com.tripj.domain.item.constant.SetItemCate;
 import com.tripj.domain.item.model.dto.request.CreateItemRequest;
 import com.tripj.domain.item.model.dto.request.CreateSetItemRequest;
@@ -11,14 +13,14 @@ import com.tripj.domain.item.model.dto.response.CreateItemCatePairResponse;
 import com.tripj.domain.item.model.dto.response.CreateItemResponse;
 import com.tripj.domain.item.model.dto.response.DeleteItemResponse;
 import com.tripj.domain.item.model.dto.response.UpdateItemResponse;
-import com.tripj.domain.item.model.entity.FixedItem;
 import com.tripj.domain.item.model.entity.Item;
-import com.tripj.domain.item.repository.FixedItemRepository;
 import com.tripj.domain.item.repository.ItemRepository;
+import com.tripj.domain.item.repository.UserItemRows;
 import com.tripj.domain.itemcate.model.entity.ItemCate;
 import com.tripj.domain.itemcate.repository.ItemCateRepository;
 import com.tripj.domain.trip.model.entity.Trip;
 import com.tripj.domain.trip.repository.TripRepository;
+import com.tripj.domain.trip.service.CurrentTripCache;
 import com.tripj.domain.user.model.entity.User;
 import com.tripj.domain.user.repository.UserRepository;
 import com.tripj.global.error.exception.BusinessException;
@@ -28,10 +30,10 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
-import java.util.stream.Collectors;
 
 import static com.tripj.domain.item.constant.ItemType.*;
 import static com.tripj.global.code.ErrorCode.*;
@@ -42,11 +44,12 @@ import static com.tripj.global.code.ErrorCode.*;
 public class ItemService {
 
     private final ItemRepository itemRepository;
-    private final FixedItemRepository fixedItemRepository;
     private final UserRepository userRepository;
     private final ItemCateRepository itemCateRepository;
     private final TripRepository tripRepository;
     private final CheckListRepository checkListRepository;
+    private final CurrentTripCache currentTripCache;
+    private final ItemCatalog itemCatalog;
 
     /**
      * 아이템 등록
@@ -57,20 +60,15 @@ public class ItemService {
             .orElseThrow(() -> new NotFoundException(E404_NOT_EXISTS_USER));
 
         //지난 여행에 아이템 등록 불가
-        Trip trip = tripRepository.findByPreviousIsNow(request.getTripId())
-            .orElseThrow(() -> new NotFoundException(E404_NOT_EXISTS_NOW_TRIP));
+        Trip trip = getCurrentTrip(request.getTripId(), userId);
 
         ItemCate itemCate = itemCateRepository.findById(request.getItemCateId())
             .orElseThrow(() -> new NotFoundException(E404_NOT_EXISTS_ITEM_CATE));
 
-        if (trip.getUser().getId().equals(userId)) {
-            Item newItem = request.toEntity(user, itemCate, trip);
-            newItem.updateItemType(USER_ADDED);
-            Item savedItem = itemRepository.save(newItem);
-            return CreateItemResponse.of(savedItem);
-        } else {
-            throw new ForbiddenException(NOT_MY_TRIP);
-        }
+        Item newItem = request.toEntity(user, itemCate, trip);
+        newItem.updateItemType(USER_ADDED);
+        Item savedItem = itemRepository.save(newItem);
+        return CreateItemResponse.of(savedItem);
     }
 
     /**
@@ -85,30 +83,51 @@ public class ItemService {
                 .orElseThrow(() -> new NotFoundException(E404_NOT_EXISTS_USER));
 
         //지난 여행에 아이템 등록 불가
-        Trip trip = tripRepository.findByPreviousIsNow(request.getTripId())
-                .orElseThrow(() -> new NotFoundException(E404_NOT_EXISTS_NOW_TRIP));
+        Trip trip = getCurrentTrip(request.getTripId(), userId);
 
         List<CreateItemCatePairResponse> itemsToAdd = setItemsByCategory.get(setItemCate);
-
-        if (!trip.getUser().getId().equals(userId)) {
-            throw new ForbiddenException(NOT_MY_TRIP);
-        }
+        ItemCatalogSnapshot catalog = itemCatalog.snapshot();
+        Map<Long, ItemCate> itemCates = getItemCates(itemsToAdd, catalog);
 
         // 기존에 있던 사용자 추가 아이템 전부 삭제
         itemRepository.deleteByTripIdAndFixedItemDelYnIsNull(trip.getId());
 
-        // 새로운 세트 아이템 추가
-        for (CreateItemCatePairResponse itemPair : itemsToAdd) {
-            ItemCate itemCate = itemCateRepository.findById(itemPair.getItemCateId())
-                    .orElseThrow(() -> new NotFoundException(E404_NOT_EXISTS_ITEM_CATE));
-
-            Item setItem = request.toEntity(user, itemCate, trip, itemPair.getItemName());
-            setItem.updateItemType(SET_ITEM);
-            itemRepository.save(setItem);
+        // 새로운 세트 아이템 일괄 추가
+        List<Item> setItems = itemsToAdd.stream()
+                .map(itemPair -> {
+                    Item setItem = request.toEntity(
+                            user, itemCates.get(itemPair.getItemCateId()), trip, itemPair.getItemName());
+                    setItem.updateItemType(SET_ITEM);
+                    return setItem;
+                })
+                .toList();
+        List<Long> setItemIds = itemRepository.batchInsert(setItems);
+
+        // 방금 등록한 세트 아이템은 다시 조회하지 않고, 고정 아이템은 카탈로그에서 합친다.
+        List<GetItemListResponse> itemList = new ArrayList<>();
+        for (int i = 0; i < setItems.size(); i++) {
+            itemList.add(new GetItemListResponse(setItemIds.get(i), setItems.get(i).getItemName(),
+                    setItems.get(i).getItemCate().getId(), SET_ITEM, "NOT_YET"));
         }
+        addFixedItems(itemList, itemRepository.getFixedItemMarks(userId, trip.getId()), catalog);
 
-        // 등록 후 아이템 일괄 조회 API 호출
-        return getItemList(userId, trip.getId());
+        return itemList;
+    }
+
+    /**
+     * 세트 아이템 카테고리 (카탈로그로 존재 여부만 확인하고 참조로 사용)
+     */
+    private Map<Long, ItemCate> getItemCates(List<CreateItemCatePairResponse> itemsToAdd,
+                                             ItemCatalogSnapshot catalog) {
+        Map<Long, ItemCate> itemCates = new HashMap<>();
+        for (CreateItemCatePairResponse itemPair : itemsToAdd) {
+            Long itemCateId = itemPair.getItemCateId();
+            if (!catalog.containsItemCate(itemCateId)) {
+                throw new NotFoundException(E404_NOT_EXISTS_ITEM_CATE);
+            }
+            itemCates.computeIfAbsent(itemCateId, itemCateRepository::getReferenceById);
+        }
+        return itemCates;
     }
 
     /**
@@ -129,7 +148,7 @@ public class ItemService {
             throw new ForbiddenException(E403_NOT_MY_ITEM);
         }
 
-        if (!"NOW".equals(item.getTrip().getPrevious())) {
+        if (!currentTripCache.isCurrentTrip(userId, item.getTrip().getId())) {
             throw new BusinessException(NOT_ALLOWED_PAST_ITEM);
         }
 
@@ -143,16 +162,10 @@ public class ItemService {
      */
     public DeleteItemResponse deleteItem(Long itemId, Long tripId, String itemType, Long userId) {
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new NotFoundException(E404_NOT_EXISTS_USER));
-
-        Trip trip = tripRepository.findById(tripId)
-                .orElseThrow(() -> new NotFoundException(E404_NOT_EXISTS_TRIP));
-
         if (USER_ADDED.name().equals(itemType) || SET_ITEM.name().equals(itemType)) {
             deleteUserOrSetItem(itemId, userId);
         } else if (FIXED.name().equals(itemType)) {
-            deleteFixedItem(itemId, user, trip);
+            deleteFixedItem(itemId, tripId, userId);
         }
 
         return DeleteItemResponse.of(itemId);
@@ -165,36 +178,50 @@ public class ItemService {
         Item item = itemRepository.findById(itemId)
                 .orElseThrow(() -> new NotFoundException(E404_NOT_EXISTS_ITEM));
 
-        if (!"NOW".equals(item.getTrip().getPrevious())) {
+        if (!item.getUser().getId().equals(userId)) {
+            throw new ForbiddenException(E403_NOT_MY_ITEM);
+        }
+
+        if (!currentTripCache.isCurrentTrip(userId, item.getTrip().getId())) {
             throw new BusinessException(NOT_ALLOWED_PAST_ITEM);
         }
 
-        if (item.getUser().getId().equals(userId)) {
-            checkListRepository.deleteByItemId(itemId);
-            itemRepository.deleteById(item.getId());
-        } else {
-            throw new ForbiddenException(E403_NOT_MY_ITEM);
+        checkListRepository.deleteByItemId(itemId);
+        itemRepository.deleteById(item.getId());
+    }
+
+    /**
+     * 진행중인 본인 여행 (캐시로 확인하고, 아니면 DB 에서 거절 사유 구분)
+     */
+    private Trip getCurrentTrip(Long tripId, Long userId) {
+        if (!currentTripCache.isCurrentTrip(userId, tripId)) {
+            tripRepository.findCurrentTripById(tripId)
+                    .orElseThrow(() -> new NotFoundException(E404_NOT_EXISTS_NOW_TRIP));
+            throw new ForbiddenException(NOT_MY_TRIP);
         }
+        return tripRepository.getReferenceById(tripId);
     }
 
     /**
-     * 고정 아이템 삭제 처리
+     * 고정 아이템 삭제 처리 (여행의 숨김 비트셋에 표시)
+     * 같은 여행에 대한 동시 삭제가 서로의 비트를 덮어쓰지 않도록 여행 행을 잠근다.
      */
-    private void deleteFixedItem(Long itemId, User user, Trip trip) {
-        FixedItem fixedItem = fixedItemRepository.findById(itemId)
+    private void deleteFixedItem(Long fixedItemId, Long tripId, Long userId) {
+        itemCatalog.snapshot().findFixedItem(fixedItemId)
                 .orElseThrow(() -> new NotFoundException(E404_NOT_EXISTS_FIXED_ITEM));
 
-        checkListRepository.deleteByFixedItemId(fixedItem.getId());
-
-        itemRepository.save(Item.builder()
-                .itemName(fixedItem.getItemName())
-                .user(user)
-                .itemCate(fixedItem.getItemCate())
-                .trip(trip)
-                .fixedItem(fixedItem)
-                .fixedItemDelYN("Y")
-                .itemType(FIXED)
-                .build());
+        Trip trip = tripRepository.findByIdForUpdate(tripId)
+                .orElseThrow(() -> new NotFoundException(E404_NOT_EXISTS_TRIP));
+        if (!trip.getUser().getId().equals(userId)) {
+            throw new ForbiddenException(NOT_MY_TRIP);
+        }
+
+        if (!currentTripCache.isCurrentTrip(userId, tripId)) {
+            throw new BusinessException(NOT_ALLOWED_PAST_ITEM);
+        }
+
+        checkListRepository.deleteByTripIdAndFixedItemId(tripId, fixedItemId);
+        trip.hideFixedItem(fixedItemId);
     }
 
     /**
@@ -203,24 +230,30 @@ public class ItemService {
     @Transactional(readOnly = true)
     public List<GetItemListResponse> getItemList(Long userId, Long tripId) {
 
-        List<GetItemListResponse> itemList = itemRepository.getItemList(userId);
-        List<GetCheckListResponse> checkList = checkListRepository.getCheckList(userId, tripId);
-
-        // checkList의 itemId와 itemType을 조합하여 Set에 저장
-        Set<String> checkListItemSet = checkList.stream()
-                .map(item -> item.getItemId() + "_" + item.getItemType())
-                .collect(Collectors.toSet());
+        UserItemRows rows = itemRepository.getItemList(userId, tripId);
 
-        // itemList를 돌면서 checkList에 있는지 확인하여 addStatus response
-        for (GetItemListResponse item : itemList) {
-            String itemKey = item.getItemId() + "_" + item.getItemType();
-            String addStatus = checkListItemSet.contains(itemKey) ? "ALREADY" : "NOT_YET";
-            item.setAddStatus(addStatus);
-        }
+        List<GetItemListResponse> itemList = new ArrayList<>(rows.getTripItems());
+        addFixedItems(itemList, rows, itemCatalog.snapshot());
 
         return itemList;
     }
 
+    /**
+     * 카탈로그의 노출중인 고정 아이템 중 회원이 삭제하지 않은 것을 추가 여부와 함께 붙인다.
+     */
+    private void addFixedItems(List<GetItemListResponse> itemList, UserItemRows rows,
+                               ItemCatalogSnapshot catalog) {
+        for (CatalogFixedItem fixedItem : catalog.getVisibleFixedItems()) {
+            Long fixedItemId = fixedItem.getFixedItemId();
+            if (rows.isHidden(fixedItemId)) {
+                continue;
+            }
+            String addStatus = rows.getCheckedFixedItemIds().contains(fixedItemId) ? "ALREADY" : "NOT_YET";
+            itemList.add(new GetItemListResponse(fixedItemId, fixedItem.getItemName(),
+                    fixedItem.getItemCateId(), fixedItem.getItemType(), addStatus));
+        }
+    }
+
     /**
      * 세트 아이템 조회
      */
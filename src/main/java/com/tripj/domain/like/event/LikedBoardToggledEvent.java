@@ -0,0 +1,25 @@
+package com.tripj.domain.like.event;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 게시글 좋아요/취소 이벤트 (커밋 이후 좋아요 수 집계에 반영)
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class LikedBoardToggledEvent {
+
+    private Long boardId;
+
+    private long delta;
+
+    public static LikedBoardToggledEvent liked(Long boardId) {
+        return new LikedBoardToggledEvent(boardId, 1);
+    }
+
+    public static LikedBoardToggledEvent unliked(Long boardId) {
+        return new LikedBoardToggledEvent(boardId, -1);
+    }
+}
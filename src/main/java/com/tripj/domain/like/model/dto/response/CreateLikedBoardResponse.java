@@ -14,11 +14,18 @@ public class CreateLikedBoardResponse {
     @Schema(description = "게시물 ID", example = "1")
     private Long boardId;
 
-    @Schema(description = "좋아요 ID", example = "1")
+    @Schema(description = "좋아요 ID (취소했으면 null)", example = "1")
     private Long likedBoardId;
 
-    public static CreateLikedBoardResponse of(Long boardId, Long likedBoardId) {
-        return new CreateLikedBoardResponse(boardId, likedBoardId);
+    @Schema(description = "좋아요 여부 (취소했으면 false)", example = "true")
+    private boolean liked;
+
+    public static CreateLikedBoardResponse liked(Long boardId, Long likedBoardId) {
+        return new CreateLikedBoardResponse(boardId, likedBoardId, true);
+    }
+
+    public static CreateLikedBoardResponse unliked(Long boardId) {
+        return new CreateLikedBoardResponse(boardId, null, false);
     }
 
 
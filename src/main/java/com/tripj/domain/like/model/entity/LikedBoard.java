@@ -8,6 +8,8 @@ import lombok.*;
 @Getter
 @Entity
 @Builder
+@Table(uniqueConstraints = @UniqueConstraint(
+        name = "uk_liked_board_user_board", columnNames = {"user_id", "board_id"}))
 @NoArgsConstructor
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 public class LikedBoard {
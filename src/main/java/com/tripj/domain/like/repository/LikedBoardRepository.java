@@ -2,6 +2,9 @@ package com.tripj.domain.like.repository;
 
 import com.tripj.domain.like.model.entity.LikedBoard;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -9,9 +12,26 @@ import java.util.Optional;
 @Repository
 public interface LikedBoardRepository extends JpaRepository<LikedBoard, Long> {
 
-    Optional<LikedBoard> findByUserIdAndBoardId(Long userId, Long boardId);
+    /**
+     * 좋아요 취소 (삭제된 행 수 반환)
+     */
+    @Modifying
+    @Query("delete from LikedBoard lb where lb.user.id = :userId and lb.board.id = :boardId")
+    int deleteLike(@Param("userId") Long userId, @Param("boardId") Long boardId);
 
-    void deleteByUserIdAndBoardId(Long userId, Long boardId);
+    /**
+     * 좋아요 추가 (추가된 행 수 반환)
+     * 사용자/게시글이 없거나 이미 누른 좋아요(uk_liked_board_user_board)면 0
+     */
+    @Modifying
+    @Query(value = "insert ignore into liked_board (user_id, board_id) " +
+            "select u.user_id, b.board_id from `user` u join board b on b.board_id = :boardId " +
+            "where u.user_id = :userId",
+            nativeQuery = true)
+    int insertLike(@Param("userId") Long userId, @Param("boardId") Long boardId);
+
+    @Query("select lb.id from LikedBoard lb where lb.user.id = :userId and lb.board.id = :boardId")
+    Optional<Long> findLikedBoardId(@Param("userId") Long userId, @Param("boardId") Long boardId);
 
     void deleteByBoardId(Long boardId);
 }
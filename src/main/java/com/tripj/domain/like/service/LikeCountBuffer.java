@@ -0,0 +1,88 @@
+package com.tripj.domain.like.service;
+
+import com.tripj.domain.board.event.BoardChangedEvent;
+import com.tripj.domain.board.repository.BoardRepository;
+import com.tripj.domain.board.service.PopularBoardRanking;
+import com.tripj.domain.like.event.LikedBoardToggledEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 게시글 좋아요 수 갱신 버퍼 (write-behind)
+ * 커밋된 좋아요/취소가 있었던 게시글만 모아 두고, 주기적으로 liked_board 에서 다시 센 값으로 한 번에 갱신한다.
+ * 증감이 아닌 절대값을 쓰므로 여러 서버가 같은 게시글을 반영하거나 일일 재집계와 겹쳐도 두 번 반영되지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LikeCountBuffer {
+
+    private static final String UPDATE_LIKE_COUNT =
+            "update board set like_count = " +
+            "(select count(*) from liked_board lb where lb.board_id = ?) " +
+            "where board_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BoardRepository boardRepository;
+    private final PopularBoardRanking popularBoardRanking;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final Set<Long> dirtyBoardIds = ConcurrentHashMap.newKeySet();
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLikedBoardToggled(LikedBoardToggledEvent event) {
+        dirtyBoardIds.add(event.getBoardId());
+        popularBoardRanking.recordLike(event.getBoardId(), event.getDelta());
+    }
+
+    /**
+     * 좋아요가 바뀐 게시글의 좋아요 수를 다시 세어 반영하고 상세 조회 캐시 무효화
+     * 커밋 후에 게시글을 표시하므로, 표시를 꺼낸 뒤 센 값에는 그때까지 커밋된 좋아요가 모두 포함된다.
+     * 반영에 실패하면 다음 주기에 다시 시도한다. 반영한 좋아요 수는 인기글 랭킹에도 전달한다.
+     */
+    public void flush() {
+        List<Long> boardIds = new ArrayList<>();
+        for (Iterator<Long> iterator = dirtyBoardIds.iterator(); iterator.hasNext(); ) {
+            boardIds.add(iterator.next());
+            iterator.remove();
+        }
+        if (boardIds.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> args = new ArrayList<>(boardIds.size());
+        boardIds.forEach(boardId -> args.add(new Object[]{boardId, boardId}));
+
+        try {
+            jdbcTemplate.batchUpdate(UPDATE_LIKE_COUNT, args);
+        } catch (DataAccessException e) {
+            dirtyBoardIds.addAll(boardIds);
+            throw e;
+        }
+
+        boardIds.forEach(boardId ->
+                eventPublisher.publishEvent(BoardChangedEvent.likeChanged(boardId)));
+
+        // 후보가 아니던 게시글도 인기글 랭킹에 들어갈 수 있도록 반영한 좋아요 수 전달
+        popularBoardRanking.update(
+                boardRepository.getBoardLikeCounts(boardIds, popularBoardRanking.getWindowStart()));
+        log.debug("like count flushed. boards={}", boardIds.size());
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
@@ -1,16 +1,15 @@
 package com.tripj.domain.like.service;
 
-import com.tripj.domain.board.model.entity.Board;
 import com.tripj.domain.board.repository.BoardRepository;
+import com.tripj.domain.like.event.LikedBoardToggledEvent;
 import com.tripj.domain.like.model.dto.request.CreateLikedBoardRequest;
 import com.tripj.domain.like.model.dto.response.CreateLikedBoardResponse;
-import com.tripj.domain.like.model.entity.LikedBoard;
 import com.tripj.domain.like.repository.LikedBoardRepository;
-import com.tripj.domain.user.model.entity.User;
 import com.tripj.domain.user.repository.UserRepository;
 import com.tripj.global.code.ErrorCode;
 import com.tripj.global.error.exception.NotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,46 +21,40 @@ public class LikedBoardService {
     private final UserRepository userRepository;
     private final BoardRepository boardRepository;
     private final LikedBoardRepository likedBoardRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
+    /**
+     * 좋아요 누르기/취소 (토글)
+     * 삭제된 행이 있으면 취소, 없으면 추가한다. 좋아요 수는 LikeCountBuffer 가 모아서 반영한다.
+     */
     public CreateLikedBoardResponse createLikedBoard(CreateLikedBoardRequest request,
                                                      Long userId) {
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new NotFoundException(ErrorCode.E404_NOT_EXISTS_USER));
+        Long boardId = request.getBoardId();
 
-        Board board = boardRepository.findById(request.getBoardId())
-                .orElseThrow(() -> new NotFoundException(ErrorCode.E404_NOT_EXISTS_BOARD));
-
-        //좋아요 누르기
-        boolean addLike = addLike(userId, request.getBoardId());
+        if (likedBoardRepository.deleteLike(userId, boardId) > 0) {
+            eventPublisher.publishEvent(LikedBoardToggledEvent.unliked(boardId));
+            return CreateLikedBoardResponse.unliked(boardId);
+        }
 
-        if (addLike == true) {
-            LikedBoard likedBoard = likedBoardRepository.save(request.toEntity(user, board));
-            return CreateLikedBoardResponse.of(
-                    likedBoard.getBoard().getId(), likedBoard.getId());
+        if (likedBoardRepository.insertLike(userId, boardId) > 0) {
+            eventPublisher.publishEvent(LikedBoardToggledEvent.liked(boardId));
         } else {
-            likedBoardRepository.deleteByUserIdAndBoardId(userId, request.getBoardId());
-            return CreateLikedBoardResponse.of(null,null);
+            // 추가된 행이 없으면 사용자/게시글이 없거나 동시 요청이 먼저 좋아요를 반영한 경우
+            validateLikeTarget(userId, boardId);
         }
+
+        Long likedBoardId = likedBoardRepository.findLikedBoardId(userId, boardId).orElse(null);
+        return CreateLikedBoardResponse.liked(boardId, likedBoardId);
     }
 
-    /**
-     * 좋아요 누르기
-     */
-    public boolean addLike(Long userId, Long boardId) {
-        //이미 누른 좋아요인지 확인
-        if (validateLikedDaily(userId, boardId)) {
-            return true;
-        } else {
-            return false;
+    private void validateLikeTarget(Long userId, Long boardId) {
+        if (!userRepository.existsById(userId)) {
+            throw new NotFoundException(ErrorCode.E404_NOT_EXISTS_USER);
+        }
+        if (!boardRepository.existsById(boardId)) {
+            throw new NotFoundException(ErrorCode.E404_NOT_EXISTS_BOARD);
         }
     }
-    /**
-     * 좋아요 중복검사
-     */
-    public boolean validateLikedDaily(Long userId, Long boardId) {
-        return likedBoardRepository.findByUserIdAndBoardId(userId, boardId).isEmpty();
-    }
-
 
 }
@@ -0,0 +1,23 @@
+package com.tripj.domain.token.event;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * accessToken 폐기 이벤트 (커밋 이후 폐기 목록에 반영)
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class TokenRevokedEvent {
+
+    private Long userId;
+
+    private LocalDateTime revokedAt;
+
+    public static TokenRevokedEvent of(Long userId, LocalDateTime revokedAt) {
+        return new TokenRevokedEvent(userId, revokedAt);
+    }
+}
@@ -0,0 +1,68 @@
+package com.tripj.domain.token.model.entity;
+
+import com.tripj.domain.common.entity.BaseTimeEntity;
+import com.tripj.domain.user.model.entity.User;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * refresh token 저장소
+ * 토큰 원문 대신 SHA-256 digest 를 저장하고, 재발급(rotation)된 토큰은 같은 familyId 로 묶는다.
+ */
+@Getter
+@Entity
+@Table(uniqueConstraints = {
+        @UniqueConstraint(name = "uk_refresh_token_hash", columnNames = "token_hash")
+}, indexes = {
+        @Index(name = "idx_refresh_token_family", columnList = "family_id"),
+        @Index(name = "idx_refresh_token_expiration", columnList = "expiration_time")
+})
+@Builder
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RefreshToken extends BaseTimeEntity {
+
+    @Id
+    @Column(name = "refresh_token_id")
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "token_hash", nullable = false, length = 64)
+    private String tokenHash;
+
+    @Column(name = "family_id", nullable = false, length = 36)
+    private String familyId;
+
+    @JoinColumn(name = "user_id")
+    @ManyToOne(fetch = FetchType.LAZY)
+    private User user;
+
+    @Column(name = "expiration_time", nullable = false)
+    private LocalDateTime expirationTime;
+
+    /**
+     * 재발급으로 교체된 토큰
+     */
+    private boolean used;
+
+    /**
+     * 로그아웃/재사용 감지로 폐기된 토큰
+     */
+    private boolean revoked;
+
+    public static RefreshToken newRefreshToken(String tokenHash, String familyId,
+                                               User user, LocalDateTime expirationTime) {
+        return RefreshToken.builder()
+                .tokenHash(tokenHash)
+                .familyId(familyId)
+                .user(user)
+                .expirationTime(expirationTime)
+                .build();
+    }
+
+    public boolean isExpired() {
+        return expirationTime.isBefore(LocalDateTime.now());
+    }
+}
@@ -0,0 +1,45 @@
+package com.tripj.domain.token.model.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * accessToken 폐기 로그
+ * revokedAt 이전에 발급된 사용자의 accessToken 은 모두 무효이며, expirationTime 이후에는 의미가 없어 삭제한다.
+ */
+@Getter
+@Entity
+@Table(indexes = {
+        @Index(name = "idx_token_revocation_expiration", columnList = "expiration_time"),
+        @Index(name = "idx_token_revocation_revoked_at", columnList = "revoked_at")
+})
+@Builder
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TokenRevocation {
+
+    @Id
+    @Column(name = "token_revocation_id")
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "revoked_at", nullable = false)
+    private LocalDateTime revokedAt;
+
+    @Column(name = "expiration_time", nullable = false)
+    private LocalDateTime expirationTime;
+
+    public static TokenRevocation newTokenRevocation(Long userId, LocalDateTime revokedAt,
+                                                     LocalDateTime expirationTime) {
+        return TokenRevocation.builder()
+                .userId(userId)
+                .revokedAt(revokedAt)
+                .expirationTime(expirationTime)
+                .build();
+    }
+}
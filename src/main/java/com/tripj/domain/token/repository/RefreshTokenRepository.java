@@ -0,0 +1,54 @@
+package com.tripj.domain.token.repository;
+
+import com.tripj.domain.token.model.entity.RefreshToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+
+    /**
+     * digest 로 토큰과 사용자 함께 조회 (unique index 단건 조회)
+     */
+    @Query("select rt from RefreshToken rt join fetch rt.user where rt.tokenHash = :tokenHash")
+    Optional<RefreshToken> findWithUserByTokenHash(@Param("tokenHash") String tokenHash);
+
+    /**
+     * 사용자의 유효한 refresh token 존재 여부
+     */
+    @Query("select count(rt) > 0 from RefreshToken rt " +
+            "where rt.user.id = :userId and rt.used = false and rt.revoked = false and rt.expirationTime > :now")
+    boolean existsActiveByUserId(@Param("userId") Long userId, @Param("now") LocalDateTime now);
+
+    /**
+     * 재발급으로 교체 처리 (이미 교체/폐기된 토큰이면 0)
+     */
+    @Modifying
+    @Query("update RefreshToken rt set rt.used = true where rt.id = :id and rt.used = false and rt.revoked = false")
+    int markUsed(@Param("id") Long id);
+
+    @Modifying
+    @Query("update RefreshToken rt set rt.revoked = true where rt.familyId = :familyId")
+    int revokeFamily(@Param("familyId") String familyId);
+
+    @Modifying
+    @Query("update RefreshToken rt set rt.revoked = true where rt.user.id = :userId and rt.revoked = false")
+    int revokeAllByUserId(@Param("userId") Long userId);
+
+    @Modifying
+    @Query("delete from RefreshToken rt where rt.user.id = :userId")
+    int deleteAllByUserId(@Param("userId") Long userId);
+
+    /**
+     * 만료된 토큰 limit 건 삭제
+     */
+    @Modifying
+    @Query(value = "delete from refresh_token where expiration_time < :now limit :limit", nativeQuery = true)
+    int deleteExpired(@Param("now") LocalDateTime now, @Param("limit") int limit);
+}
@@ -0,0 +1,23 @@
+package com.tripj.domain.token.repository;
+
+import com.tripj.domain.token.model.entity.TokenRevocation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface TokenRevocationRepository extends JpaRepository<TokenRevocation, Long> {
+
+    List<TokenRevocation> findAllByExpirationTimeAfter(LocalDateTime now);
+
+    List<TokenRevocation> findAllByRevokedAtGreaterThanEqual(LocalDateTime from);
+
+    @Modifying
+    @Query("delete from TokenRevocation tr where tr.expirationTime < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
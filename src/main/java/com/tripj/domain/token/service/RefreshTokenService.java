@@ -0,0 +1,112 @@
+package com.tripj.domain.token.service;
+
+import com.tripj.domain.token.model.entity.RefreshToken;
+import com.tripj.domain.token.repository.RefreshTokenRepository;
+import com.tripj.domain.user.model.entity.User;
+import com.tripj.global.error.exception.AuthenticationException;
+import com.tripj.global.util.DateTimeUtils;
+import com.tripj.jwt.dto.JwtTokenDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static com.tripj.global.code.ErrorCode.*;
+
+@Slf4j
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class RefreshTokenService {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+
+    /**
+     * 로그인시 새 refresh token 저장 (새 family 시작)
+     */
+    public void save(User user, JwtTokenDto jwtTokenDto) {
+        saveInFamily(user, jwtTokenDto, UUID.randomUUID().toString());
+    }
+
+    /**
+     * refresh token 검증
+     * 이미 교체된 토큰이 다시 쓰이면 탈취로 보고 같은 family 의 토큰을 모두 폐기한다.
+     */
+    @Transactional(noRollbackFor = AuthenticationException.class)
+    public RefreshToken verify(String refreshToken) {
+        RefreshToken stored = refreshTokenRepository.findWithUserByTokenHash(hash(refreshToken))
+                .orElseThrow(() -> new AuthenticationException(E403_NOT_FOUND_REFRESH_TOKEN));
+
+        if (stored.isUsed()) {
+            revokeReusedFamily(stored);
+        }
+        if (stored.isRevoked() || stored.isExpired()) {
+            throw new AuthenticationException(E403_REFRESH_TOKEN_EXPIRED);
+        }
+        return stored;
+    }
+
+    /**
+     * refresh token 교체 (같은 family 로 새 토큰 저장)
+     */
+    @Transactional(noRollbackFor = AuthenticationException.class)
+    public void rotate(RefreshToken stored, JwtTokenDto jwtTokenDto) {
+        if (refreshTokenRepository.markUsed(stored.getId()) == 0) {
+            // 동시 요청이 먼저 교체했거나 폐기된 토큰
+            revokeReusedFamily(stored);
+        }
+        saveInFamily(stored.getUser(), jwtTokenDto, stored.getFamilyId());
+    }
+
+    /**
+     * 사용자의 유효한 refresh token 존재 여부
+     */
+    @Transactional(readOnly = true)
+    public boolean hasActiveToken(Long userId) {
+        return refreshTokenRepository.existsActiveByUserId(userId, LocalDateTime.now());
+    }
+
+    /**
+     * 로그아웃 (사용자의 모든 refresh token 폐기)
+     */
+    public void revokeAll(Long userId) {
+        refreshTokenRepository.revokeAllByUserId(userId);
+    }
+
+    /**
+     * 회원탈퇴 (사용자의 모든 refresh token 삭제)
+     */
+    public void deleteAll(Long userId) {
+        refreshTokenRepository.deleteAllByUserId(userId);
+    }
+
+    /**
+     * 만료된 refresh token 을 chunkSize 건 삭제하고 삭제 건수 반환
+     */
+    public int purgeExpired(int chunkSize) {
+        return refreshTokenRepository.deleteExpired(LocalDateTime.now(), chunkSize);
+    }
+
+    private void revokeReusedFamily(RefreshToken stored) {
+        int revoked = refreshTokenRepository.revokeFamily(stored.getFamilyId());
+        log.warn("refresh token reuse detected. userId={}, familyId={}, revoked={}",
+                stored.getUser().getId(), stored.getFamilyId(), revoked);
+        throw new AuthenticationException(REFRESH_TOKEN_REUSED);
+    }
+
+    private void saveInFamily(User user, JwtTokenDto jwtTokenDto, String familyId) {
+        refreshTokenRepository.save(RefreshToken.newRefreshToken(
+                hash(jwtTokenDto.getRefreshToken()),
+                familyId,
+                user,
+                DateTimeUtils.convertToLocalDateTime(jwtTokenDto.getRefreshTokenExpireTime())));
+    }
+
+    private String hash(String refreshToken) {
+        return DigestUtils.sha256Hex(refreshToken);
+    }
+}
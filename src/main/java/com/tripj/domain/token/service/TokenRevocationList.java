@@ -0,0 +1,115 @@
+package com.tripj.domain.token.service;
+
+import com.tripj.domain.token.event.TokenRevokedEvent;
+import com.tripj.domain.token.model.entity.TokenRevocation;
+import com.tripj.domain.token.repository.TokenRevocationRepository;
+import com.tripj.jwt.service.TokenManager;
+import io.jsonwebtoken.Claims;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * accessToken 폐기 목록 (메모리)
+ * 사용자별 폐기 시각(watermark)을 두고, 그 이전에 발급된 토큰을 무효로 본다.
+ * 기동 시(웹 서버 시작 전) 폐기 로그에서 복원하고, 다른 서버의 폐기는 주기적으로 최근 로그를 다시 읽어 반영한다.
+ * 항목은 accessToken 유효 기간이 지나면 의미가 없어 정리한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenRevocationList implements SmartInitializingSingleton {
+
+    /**
+     * 동기화 구간 겹침 (늦게 커밋된 폐기 로그를 놓치지 않도록 직전 동기화 이전부터 다시 읽는다)
+     */
+    private static final Duration SYNC_OVERLAP = Duration.ofMinutes(5);
+
+    private final TokenRevocationRepository tokenRevocationRepository;
+    private final TokenManager tokenManager;
+
+    /**
+     * userId -> 폐기 시각 (epoch millisecond)
+     */
+    private final Map<Long, Long> watermarks = new ConcurrentHashMap<>();
+
+    private volatile LocalDateTime lastSyncedAt;
+
+    /**
+     * 웹 서버가 요청을 받기 전에 폐기 목록 적재
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        load();
+    }
+
+    public synchronized void load() {
+        LocalDateTime now = LocalDateTime.now();
+        List<TokenRevocation> revocations =
+                tokenRevocationRepository.findAllByExpirationTimeAfter(now);
+        revocations.forEach(revocation -> add(revocation.getUserId(), revocation.getRevokedAt()));
+
+        lastSyncedAt = now;
+        log.info("token revocation list loaded. users={}", watermarks.size());
+    }
+
+    @TransactionalEventListener
+    public void onTokenRevoked(TokenRevokedEvent event) {
+        add(event.getUserId(), event.getRevokedAt());
+    }
+
+    /**
+     * 폐기된 토큰 여부 (발급 시각이 폐기 시각과 같거나 이전)
+     * 밀리초 발급 시각으로 비교해 로그아웃 직후 다시 로그인한 토큰은 유효하다.
+     * 밀리초 claim 이 없는 이전 토큰은 iat 초의 시작 시각으로 보수적으로 비교한다.
+     */
+    public boolean isRevoked(Long userId, Claims claims) {
+        Long watermark = watermarks.get(userId);
+        if (watermark == null) {
+            return false;
+        }
+
+        Object issuedAtMillis = claims.get(TokenManager.ISSUED_AT_MILLIS);
+        if (issuedAtMillis instanceof Number millis) {
+            return millis.longValue() <= watermark;
+        }
+        Date issuedAt = claims.getIssuedAt();
+        return issuedAt == null || issuedAt.getTime() <= watermark;
+    }
+
+    /**
+     * 다른 서버에서 추가된 폐기 로그 반영 및 만료 항목 정리
+     * id 순서와 커밋 순서가 다를 수 있어, 직전 동기화 시각보다 SYNC_OVERLAP 만큼 앞선 로그부터 다시 읽는다.
+     * 같은 로그를 다시 반영해도 watermark 는 최댓값만 남아 결과가 같다.
+     */
+    public synchronized void sync() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime from = lastSyncedAt == null ? now.minus(SYNC_OVERLAP) : lastSyncedAt.minus(SYNC_OVERLAP);
+        tokenRevocationRepository.findAllByRevokedAtGreaterThanEqual(from)
+                .forEach(revocation -> add(revocation.getUserId(), revocation.getRevokedAt()));
+        lastSyncedAt = now;
+
+        long expiredBefore = epochMilli(LocalDateTime.now().minus(tokenManager.getAccessTokenTimeToLive()));
+        watermarks.values().removeIf(watermark -> watermark < expiredBefore);
+    }
+
+    private void add(Long userId, LocalDateTime revokedAt) {
+        watermarks.merge(userId, epochMilli(revokedAt), Math::max);
+    }
+
+    private long epochMilli(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault())
+                .toInstant()
+                .toEpochMilli();
+    }
+}
@@ -0,0 +1,40 @@
+package com.tripj.domain.token.service;
+
+import com.tripj.domain.token.event.TokenRevokedEvent;
+import com.tripj.domain.token.model.entity.TokenRevocation;
+import com.tripj.domain.token.repository.TokenRevocationRepository;
+import com.tripj.jwt.service.TokenManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class TokenRevocationService {
+
+    private final TokenRevocationRepository tokenRevocationRepository;
+    private final TokenManager tokenManager;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 사용자의 지금까지 발급된 accessToken 폐기
+     */
+    public void revoke(Long userId) {
+        LocalDateTime now = LocalDateTime.now();
+        tokenRevocationRepository.save(TokenRevocation.newTokenRevocation(
+                userId, now, now.plus(tokenManager.getAccessTokenTimeToLive())));
+
+        eventPublisher.publishEvent(TokenRevokedEvent.of(userId, now));
+    }
+
+    /**
+     * 만료된 폐기 로그 삭제
+     */
+    public int purgeExpired() {
+        return tokenRevocationRepository.deleteExpired(LocalDateTime.now());
+    }
+}
@@ -1,6 +1,7 @@
 package com.tripj.domain.trip.model.dto.response;
 
 import com.querydsl.core.annotations.QueryProjection;
+import com.tripj.domain.trip.model.entity.Trip;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -34,6 +35,12 @@ public class GetTripResponse {
     private LocalDate endDate;
 
     @QueryProjection
+    public GetTripResponse(Long tripId, Long countryId,
+                           String countryName, Boolean isCurrent, Integer tripSeq,
+                           LocalDate startDate, LocalDate endDate) {
+        this(tripId, countryId, countryName, Trip.previousOf(isCurrent, tripSeq), startDate, endDate);
+    }
+
     public GetTripResponse(Long tripId, Long countryId,
                            String countryName, String previous,
                            LocalDate startDate, LocalDate endDate) {
@@ -7,14 +7,26 @@ import jakarta.persistence.*;
 import lombok.*;
 
 import java.time.LocalDate;
+import java.util.BitSet;
 
 @Builder
 @Getter
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_trip_user_current", columnList = "user_id, is_current"),
+        @Index(name = "idx_trip_current_end_date", columnList = "is_current, end_date")
+})
 @NoArgsConstructor
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 public class Trip extends BaseTimeEntity {
 
+    /**
+     * 숨긴 고정 아이템 비트셋 컬럼 크기
+     * int 범위의 모든 고정 아이템 ID(2^31 비트)를 담는 크기로, MySQL 에서는 longblob 으로 생성된다.
+     * 실제 저장 크기는 숨긴 ID 중 가장 큰 값 / 8 바이트다.
+     */
+    private static final int HIDDEN_FIXED_ITEMS_BYTES = 1 << 28;
+
     @Id
     @Column(name = "trip_id")
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -36,12 +48,35 @@ public class Trip extends BaseTimeEntity {
 
     private String purpose;
 
-    private String previous;
+    /**
+     * 진행중인 여행 여부 (회원당 하나)
+     */
+    @Column(name = "is_current", nullable = false)
+    private boolean isCurrent;
+
+    /**
+     * 지난 여행 순번 (진행중이면 null)
+     */
+    private Integer tripSeq;
+
+    /**
+     * 이전 버전의 NOW/Bxx 문자열 (TripCurrentMigration 에서 isCurrent/tripSeq 로 옮긴 뒤 비운다)
+     */
+    @Getter(AccessLevel.NONE)
+    @Column(name = "previous", length = 10)
+    private String legacyPrevious;
+
+    /**
+     * 이 여행에서 회원이 삭제한 고정 아이템 (비트 인덱스 = 고정 아이템 ID)
+     */
+    @Getter(AccessLevel.NONE)
+    @Column(name = "hidden_fixed_items", length = HIDDEN_FIXED_ITEMS_BYTES)
+    private byte[] hiddenFixedItems;
 
     public static Trip newTrip(LocalDate startDate, LocalDate endDate,
                                User user, Country country) {
         return Trip.builder()
-                .previous("NOW")
+                .isCurrent(true)
                 .startDate(startDate)
                 .endDate(endDate)
                 .user(user)
@@ -49,6 +84,52 @@ public class Trip extends BaseTimeEntity {
                 .build();
     }
 
+    /**
+     * 현재/이전 여행 분류 (API 응답 형식: 진행중 NOW, 지난 여행 B01, B02 ...)
+     */
+    public String getPrevious() {
+        return previousOf(isCurrent, tripSeq);
+    }
+
+    public static String previousOf(boolean isCurrent, Integer tripSeq) {
+        if (isCurrent) {
+            return "NOW";
+        }
+        if (tripSeq == null) {
+            throw new IllegalStateException("past trip without trip_seq");
+        }
+        return String.format("B%02d", tripSeq);
+    }
+
+    public static BitSet hiddenFixedItemsOf(byte[] hiddenFixedItems) {
+        return hiddenFixedItems == null ? new BitSet() : BitSet.valueOf(hiddenFixedItems);
+    }
+
+    public static byte[] toHiddenFixedItems(BitSet hiddenFixedItems) {
+        return hiddenFixedItems.toByteArray();
+    }
+
+    /**
+     * 비트셋에 표시할 수 있는 고정 아이템 ID 인지 (비트 인덱스는 int 범위)
+     */
+    public static boolean isHideableFixedItemId(long fixedItemId) {
+        return fixedItemId >= 0 && fixedItemId <= Integer.MAX_VALUE;
+    }
+
+    public boolean isFixedItemHidden(Long fixedItemId) {
+        return isHideableFixedItemId(fixedItemId)
+                && hiddenFixedItemsOf(hiddenFixedItems).get(fixedItemId.intValue());
+    }
+
+    /**
+     * 고정 아이템 삭제 (이 여행의 아이템 목록에서 숨김)
+     */
+    public void hideFixedItem(Long fixedItemId) {
+        BitSet hidden = hiddenFixedItemsOf(hiddenFixedItems);
+        hidden.set(Math.toIntExact(fixedItemId));
+        this.hiddenFixedItems = toHiddenFixedItems(hidden);
+    }
+
     /**
      * 여행 수정
      */
@@ -58,11 +139,4 @@ public class Trip extends BaseTimeEntity {
         this.country = country;
     }
 
-    /**
-     * 스케줄러로 Previous 변경
-     */
-    public void updatePrevious(String previous) {
-        this.previous = previous;
-    }
-
 }
@@ -0,0 +1,60 @@
+package com.tripj.domain.trip.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 여행 배치용 벌크 쿼리
+ */
+@Repository
+@RequiredArgsConstructor
+public class TripBatchRepository {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * 종료된 진행중 여행 ID (trip_id 순, lastTripId 이후 limit 건)
+     */
+    public List<Long> findRolloverTargetIds(LocalDate today, Long lastTripId, int limit) {
+        return jdbcTemplate.queryForList(
+                "select trip_id from trip " +
+                "where is_current = true and end_date < :today and trip_id > :lastTripId " +
+                "order by trip_id limit :limit",
+                new MapSqlParameterSource()
+                        .addValue("today", today)
+                        .addValue("lastTripId", lastTripId)
+                        .addValue("limit", limit),
+                Long.class);
+    }
+
+    /**
+     * (fromTripId, toTripId] 범위의 종료된 진행중 여행을 지난 여행으로 변경
+     * 회원별 기존 지난 여행 순번(tripSeq)의 최댓값 다음 번호부터 종료일 순으로 매긴다.
+     */
+    public int rollover(LocalDate today, Long fromTripId, Long toTripId) {
+        return jdbcTemplate.update(
+                "update trip t " +
+                "join (" +
+                "    select n.trip_id," +
+                "           row_number() over (partition by n.user_id order by n.end_date, n.trip_id)" +
+                "           + coalesce((select max(p.trip_seq) from trip p where p.user_id = n.user_id), 0) as seq" +
+                "    from trip n" +
+                "    where n.is_current = true and n.end_date < :today" +
+                "      and n.trip_id > :fromTripId and n.trip_id <= :toTripId" +
+                ") r on r.trip_id = t.trip_id " +
+                "set t.is_current = false, t.trip_seq = r.seq, " +
+                "    t.update_time = :now",
+                new MapSqlParameterSource()
+                        .addValue("today", today)
+                        .addValue("fromTripId", fromTripId)
+                        .addValue("toTripId", toTripId)
+                        .addValue("now", Timestamp.valueOf(LocalDateTime.now())));
+    }
+}
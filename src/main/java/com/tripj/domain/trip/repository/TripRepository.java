@@ -1,7 +1,9 @@
 package com.tripj.domain.trip.repository;
 
 import com.tripj.domain.trip.model.entity.Trip;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -14,20 +16,21 @@ public interface TripRepository extends JpaRepository<Trip, Long>, TripRepositor
 
     List<Trip> findByUserId(Long userId);
 
-    @Query("select t from Trip t where t.endDate = CURRENT_DATE - 1 and t.previous = 'NOW'")
-    List<Trip> findAllPreviousIsNow();
+    @Query("select t.id from Trip t where t.isCurrent = true and t.user.id = :userId")
+    Optional<Long> findCurrentTripIdByUserId(@Param("userId") Long userId);
 
-    @Query("select t from Trip t where t.previous = 'NOW' and t.user.id = :userId")
-    Optional<Trip> findTripPreviousIsNow(@Param("userId") Long userId);
+    @Query("select count(t) > 0 from Trip t where t.isCurrent = true and t.user.id = :userId")
+    boolean existsCurrentTripByUserId(@Param("userId") Long userId);
 
-    @Query("select t from Trip t where t.previous != 'NOW' and t.user.id = :userId")
-    List<Trip> findTripPreviousIsNotNow(@Param("userId") Long userId);
+    @Query("select max(t.tripSeq) from Trip t where t.user.id = :userId")
+    Integer findMaxTripSeq(@Param("userId") Long userId);
 
-    @Query("select max(t.previous) from Trip t where t.user.id = :userId and t.previous like 'B%'")
-    String findMaxPrevious(@Param("userId") Long userId);
+    @Query("select t from Trip t where t.isCurrent = true and t.id = :tripId")
+    Optional<Trip> findCurrentTripById(@Param("tripId") Long tripId);
 
-    @Query("select t from Trip t where t.previous = 'NOW' and t.id = :tripId")
-    Optional<Trip> findByPreviousIsNow(@Param("tripId") Long tripId);
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select t from Trip t where t.id = :tripId")
+    Optional<Trip> findByIdForUpdate(@Param("tripId") Long tripId);
 
     Long countByUserId(Long userId);
 
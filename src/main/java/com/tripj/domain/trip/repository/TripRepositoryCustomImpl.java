@@ -26,14 +26,15 @@ public class TripRepositoryCustomImpl implements TripRepositoryCustom {
                         trip.id,
                         country.id,
                         country.name,
-                        trip.previous,
+                        trip.isCurrent,
+                        trip.tripSeq,
                         trip.startDate,
                         trip.endDate
                 ))
                 .from(trip)
                 .join(trip.country, country)
                 .where(
-                        trip.previous.eq("NOW"),
+                        trip.isCurrent.isTrue(),
                         trip.user.id.eq(userId)
                 )
                 .fetchOne();
@@ -46,19 +47,20 @@ public class TripRepositoryCustomImpl implements TripRepositoryCustom {
         List<GetTripResponse> result = queryFactory
                 .select(new QGetTripResponse(
                         trip.id,
-                        trip.user.id,
-                        trip.country.name,
-                        trip.previous,
+                        country.id,
+                        country.name,
+                        trip.isCurrent,
+                        trip.tripSeq,
                         trip.startDate,
                         trip.endDate
                 ))
                 .from(trip)
                 .join(trip.country, country)
                 .where(
-                        trip.previous.ne("NOW"),
+                        trip.isCurrent.isFalse(),
                         trip.user.id.eq(userId)
                 )
-                .orderBy(trip.startDate.desc())
+                .orderBy(trip.startDate.desc(), trip.tripSeq.asc())
                 .fetch();
 
         return result;
@@ -0,0 +1,80 @@
+package com.tripj.domain.trip.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tripj.domain.trip.repository.TripRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 회원별 진행중인 여행 ID 캐시 (메모리)
+ * 진행중인 여행은 여행 등록/수정, 일괄 변경(자정 배치) 때만 바뀌므로 그때 명시적으로 비운다.
+ * 캐시와 다른 여행 ID 로 요청하면 DB 에서 다시 읽어 확인하므로, 다른 서버에서 바뀐 경우에도 잘못 거절하지 않는다.
+ */
+@Component
+public class CurrentTripCache {
+
+    private static final String CACHE_NAME = "currentTrip";
+
+    private final TripRepository tripRepository;
+    private final Cache<Long, Optional<Long>> cache;
+
+    public CurrentTripCache(TripRepository tripRepository,
+                            MeterRegistry meterRegistry,
+                            @Value("${trip.current-cache.maximum-size:100000}") long maximumSize,
+                            @Value("${trip.current-cache.ttl-seconds:600}") long ttlSeconds) {
+        this.tripRepository = tripRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 회원의 진행중인 여행 ID
+     */
+    public Optional<Long> getCurrentTripId(Long userId) {
+        return cache.get(userId, tripRepository::findCurrentTripIdByUserId);
+    }
+
+    /**
+     * 회원의 진행중인 여행인지 확인 (본인 여행 여부 포함)
+     */
+    public boolean isCurrentTrip(Long userId, Long tripId) {
+        if (tripId.equals(getCurrentTripId(userId).orElse(null))) {
+            return true;
+        }
+
+        Optional<Long> currentTripId = tripRepository.findCurrentTripIdByUserId(userId);
+        cache.put(userId, currentTripId);
+        return tripId.equals(currentTripId.orElse(null));
+    }
+
+    /**
+     * 회원 캐시 삭제 (트랜잭션 안이면 커밋 후에도 한 번 더 지워 커밋 전 값이 다시 캐시되지 않게 한다)
+     */
+    public void evict(Long userId) {
+        cache.invalidate(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(userId);
+                }
+            });
+        }
+    }
+
+    public void evictAll() {
+        cache.invalidateAll();
+    }
+}
@@ -1,5 +1,7 @@
 package com.tripj.domain.trip.service;
 
+import com.tripj.domain.batch.model.entity.BatchCheckpoint;
+import com.tripj.domain.batch.service.BatchCheckpointService;
 import com.tripj.domain.country.model.entity.Country;
 import com.tripj.domain.country.repository.CountryRepository;
 import com.tripj.domain.trip.model.dto.request.CreateTripRequest;
@@ -9,6 +11,7 @@ import com.tripj.domain.trip.model.dto.response.GetTripResponse;
 import com.tripj.domain.trip.model.dto.request.UpdateTripRequest;
 import com.tripj.domain.trip.model.dto.response.UpdateTripResponse;
 import com.tripj.domain.trip.model.entity.Trip;
+import com.tripj.domain.trip.repository.TripBatchRepository;
 import com.tripj.domain.trip.repository.TripRepository;
 import com.tripj.domain.user.model.entity.User;
 import com.tripj.domain.user.repository.UserRepository;
@@ -18,9 +21,13 @@ import com.tripj.global.error.exception.ForbiddenException;
 import com.tripj.global.error.exception.NotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDate;
 import java.util.List;
 
 import static com.tripj.global.code.ErrorCode.*;
@@ -31,10 +38,19 @@ import static com.tripj.global.code.ErrorCode.*;
 @RequiredArgsConstructor
 public class TripService {
 
+    private static final String TRIP_ROLLOVER_JOB = "tripRollover";
+
     private final TripRepository tripRepository;
+    private final TripBatchRepository tripBatchRepository;
+    private final BatchCheckpointService batchCheckpointService;
+    private final TransactionTemplate transactionTemplate;
+    private final CurrentTripCache currentTripCache;
     private final UserRepository userRepository;
     private final CountryRepository countryRepository;
 
+    @Value("${batch.trip.chunk-size:1000}")
+    private int chunkSize;
+
     /**
      * 여행 생성
      */
@@ -42,13 +58,9 @@ public class TripService {
                                          Long userId) {
 
         // 여행 계획은 endDate가 지나기 전까지 한 개밖에 못 만든다.
-        List<Trip> trip = tripRepository.findByUserId(userId);
-        trip
-            .forEach(trips -> {
-                if (trips.getPrevious().equals("NOW")) {
-                    throw new BusinessException(ALREADY_EXISTS_TRIP);
-                }
-            });
+        if (tripRepository.existsCurrentTripByUserId(userId)) {
+            throw new BusinessException(ALREADY_EXISTS_TRIP);
+        }
 
         User user = userRepository.findById(userId)
             .orElseThrow(() -> new NotFoundException(E404_NOT_EXISTS_USER));
@@ -57,6 +69,7 @@ public class TripService {
             .orElseThrow(() -> new NotFoundException(E404_NOT_EXISTS_COUNTRY));
 
         Trip savedTrip = tripRepository.save(request.toEntity(user, country));
+        currentTripCache.evict(userId);
 
         return CreateTripResponse.of(savedTrip);
     }
@@ -78,64 +91,74 @@ public class TripService {
             throw new ForbiddenException(NOT_MY_TRIP);
         }
         trip.updateTrip(request.getStartDate(), request.getEndDate(), country);
+        currentTripCache.evict(userId);
 
         return UpdateTripResponse.of(trip);
     }
 
     /**
      * 여행 조회
+     * 조회 결과가 없으면 진행중인 여행이 없는 것으로 본다.
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public GetTripResponse getTrip(Long userId) {
 
-        userRepository.findById(userId)
-            .orElseThrow(() -> new NotFoundException(E404_NOT_EXISTS_USER));
-
-        tripRepository.findTripPreviousIsNow(userId)
-            .orElseThrow(() -> new NotFoundException(E404_NOT_EXISTS_TRIP));
+        GetTripResponse trip = tripRepository.getTrip(userId);
+        if (trip == null) {
+            throw new NotFoundException(E404_NOT_EXISTS_TRIP);
+        }
 
-        return tripRepository.getTrip(userId);
+        return trip;
     }
 
     /**
      * 지난 여행 조회
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public List<GetTripResponse> getPastTrip(Long userId) {
 
-        userRepository.findById(userId)
-            .orElseThrow(() -> new NotFoundException(E404_NOT_EXISTS_USER));
-
-        List<Trip> tripPreviousIsNotNow = tripRepository.findTripPreviousIsNotNow(userId);
-        if (tripPreviousIsNotNow.isEmpty()) {
+        List<GetTripResponse> pastTrips = tripRepository.getPastTrip(userId);
+        if (pastTrips.isEmpty()) {
             throw new NotFoundException(E404_NOT_EXISTS_PAST_TRIP);
         }
 
-        return tripRepository.getPastTrip(userId);
+        return pastTrips;
     }
 
     /**
-     * Previous 변경
+     * 종료된 진행중 여행을 지난 여행으로 변경 (isCurrent 해제, tripSeq 부여)
+     * chunk 마다 벌크 update 와 진행 위치를 함께 커밋해, 중단되면 마지막 chunk 다음부터 이어서 실행한다.
      */
-    public void changeTripPrevious() {
-
-        List<Trip> previousIsNow = tripRepository.findAllPreviousIsNow();
-
-        previousIsNow
-                .forEach(trip -> {
-                    Long userId = trip.getUser().getId();
-                    // previous 가장 큰 값 찾기
-                    String maxPrevious = tripRepository.findMaxPrevious(userId);
-                    if (maxPrevious != null) {
-                        int nextNum = Integer.parseInt(maxPrevious.substring(1)) + 1;
-                        String nextPrevious = "B" + String.format("%02d", nextNum);
-                        trip.updatePrevious(nextPrevious);
-                    }
-                    // previous가 NOW만 있으면 B01로 변경
-                    if (trip.getPrevious().equals("NOW")) {
-                        trip.updatePrevious("B01");
-                    }
-                });
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public long changeTripPrevious(LocalDate today) {
+        BatchCheckpoint checkpoint = transactionTemplate.execute(
+                status -> batchCheckpointService.start(TRIP_ROLLOVER_JOB, today));
+        Long lastTripId = checkpoint.getLastId();
+        long total = 0;
+
+        while (true) {
+            Long fromTripId = lastTripId;
+            List<Long> tripIds = tripBatchRepository.findRolloverTargetIds(today, fromTripId, chunkSize);
+            if (tripIds.isEmpty()) {
+                break;
+            }
+
+            Long toTripId = tripIds.get(tripIds.size() - 1);
+            Integer updated = transactionTemplate.execute(status -> {
+                int count = tripBatchRepository.rollover(today, fromTripId, toTripId);
+                batchCheckpointService.advance(TRIP_ROLLOVER_JOB, toTripId, count);
+                return count;
+            });
+            total += updated;
+            lastTripId = toTripId;
+            currentTripCache.evictAll();
+        }
+
+        transactionTemplate.executeWithoutResult(status -> batchCheckpointService.complete(TRIP_ROLLOVER_JOB));
+        // 다른 서버가 먼저 변경했을 수 있어 처리 건수와 관계없이 비운다.
+        currentTripCache.evictAll();
+        log.info("trip rollover completed. baseDate={}, count={}", today, total);
+        return total;
     }
 
     /**
@@ -5,21 +5,20 @@ import com.tripj.domain.item.model.entity.Item;
 import com.tripj.domain.trip.model.entity.Trip;
 import com.tripj.domain.user.constant.Role;
 import com.tripj.domain.user.constant.UserType;
-import com.tripj.global.util.DateTimeUtils;
-import com.tripj.jwt.dto.JwtTokenDto;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
-import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
 @Getter
-@Table(name = "`user`")
+@Table(name = "`user`", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_user_nickname", columnNames = "nickname")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class User extends BaseTimeEntity {
 
@@ -56,11 +55,6 @@ public class User extends BaseTimeEntity {
     @Column(nullable = false, length = 10)
     private Role role;
 
-    @Column(length = 250)
-    private String refreshToken;
-
-    private LocalDateTime tokenExpirationTime;
-
     @Builder
     public User(Long id, UserType userType, String email, String password, String nickname,
                   String userName, String profile, Role role) {
@@ -74,15 +68,6 @@ public class User extends BaseTimeEntity {
         this.role = role;
     }
 
-    public void updateRefreshToken(JwtTokenDto jwtTokenDto) {
-        refreshToken = jwtTokenDto.getRefreshToken();
-        tokenExpirationTime = DateTimeUtils.convertToLocalDateTime(jwtTokenDto.getRefreshTokenExpireTime());
-    }
-
-    public void updateRefreshTokenNow(LocalDateTime tokenExpirationTime) {
-        this.tokenExpirationTime = tokenExpirationTime;
-    }
-
     /**
      * 닉네임 수정
      */
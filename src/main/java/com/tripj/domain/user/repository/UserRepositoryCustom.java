@@ -1,6 +1,9 @@
 package com.tripj.domain.user.repository;
 
+import com.tripj.domain.user.model.entity.User;
+
 public interface UserRepositoryCustom {
 
+    Long upsertByEmail(User user);
 
 }
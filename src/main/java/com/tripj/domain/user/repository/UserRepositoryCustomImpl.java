@@ -1,17 +1,55 @@
 package com.tripj.domain.user.repository;
 
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.tripj.domain.user.model.entity.User;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
 
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
 @Repository
 public class UserRepositoryCustomImpl implements UserRepositoryCustom {
 
     private final JPAQueryFactory queryFactory;
+    private final JdbcTemplate jdbcTemplate;
 
-    public UserRepositoryCustomImpl(JPAQueryFactory queryFactory) {
+    public UserRepositoryCustomImpl(JPAQueryFactory queryFactory, JdbcTemplate jdbcTemplate) {
         this.queryFactory = queryFactory;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
+    /**
+     * 이메일 기준 회원 등록 (이미 있으면 기존 회원 ID 반환)
+     * 동시에 같은 이메일로 가입해도 unique 제약으로 한 건만 등록된다.
+     */
+    @Override
+    public Long upsertByEmail(User user) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(
+                    "insert into `user` (user_type, email, user_name, nickname, profile, role, reg_time, update_time) " +
+                    "values (?, ?, ?, ?, ?, ?, ?, ?) " +
+                    "on duplicate key update user_id = last_insert_id(user_id)",
+                    new String[]{"user_id"});
+            ps.setString(1, user.getUserType().name());
+            ps.setString(2, user.getEmail());
+            ps.setString(3, user.getUserName());
+            ps.setString(4, user.getNickname());
+            ps.setString(5, user.getProfile());
+            ps.setString(6, user.getRole().name());
+            ps.setTimestamp(7, now);
+            ps.setTimestamp(8, now);
+            return ps;
+        }, keyHolder);
 
+        return Objects.requireNonNull(keyHolder.getKey()).longValue();
+    }
 
 }
@@ -2,4 +2,8 @@ package com.tripj.domain.user.repository.nickname;
 
 public interface GenerateRandomNicknameRepository {
     String generate();
+
+    void markTaken(String nickname);
+
+    void release(String nickname);
 }
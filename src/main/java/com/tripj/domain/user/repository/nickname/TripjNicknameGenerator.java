@@ -1,25 +1,184 @@
 package com.tripj.domain.user.repository.nickname;
 
 import com.tripj.domain.user.constant.nickname.NicknameGenerationConstants;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
+import java.util.*;
 import java.util.concurrent.ThreadLocalRandom;
 
+/**
+ * 랜덤 닉네임 할당 (메모리)
+ * 수식어 x 동물 이름 조합마다 비트 하나로 사용 여부를 관리해 DB 조회 없이 사용하지 않은 조합을 고른다.
+ * 조합을 모두 쓰면 조합 뒤에 숫자를 붙인다.
+ * 기동 시 회원 닉네임으로 복원하고 주기적으로 다시 적재해 다른 서버의 할당/반납을 반영하며,
+ * 그 사이 다른 서버와의 충돌은 닉네임 unique 제약으로 막는다.
+ */
+@Slf4j
 @Component
 public class TripjNicknameGenerator implements GenerateRandomNicknameRepository {
 
+    private static final int MAX_SUFFIX = 10000;
+
+    /**
+     * 빈 조합을 무작위 위치로 찾는 시도 횟수 (실패하면 빈 조합 중 k 번째를 고른다)
+     */
+    private static final int RANDOM_PROBES = 16;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final List<String> combinations;
+    private final Map<String, Integer> combinationIndex;
+    private BitSet taken;
+    private Set<String> suffixed = new HashSet<>();
+
+    /**
+     * 재적재 중 할당한 조합 (재적재 결과에 없을 수 있어 합쳐 반영, 재적재 중이 아니면 null)
+     */
+    private BitSet allocatedDuringLoad;
+    private Set<String> suffixedDuringLoad;
+
+    private final Object loadLock = new Object();
+
+    public TripjNicknameGenerator(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+
+        Set<String> names = new LinkedHashSet<>();
+        for (String prefix : NicknameGenerationConstants.PREFIX_NAMES) {
+            for (String animalName : NicknameGenerationConstants.ANIMAL_NAMES) {
+                names.add(prefix + animalName);
+            }
+        }
+        this.combinations = List.copyOf(names);
+        this.combinationIndex = new HashMap<>();
+        for (int i = 0; i < combinations.size(); i++) {
+            combinationIndex.put(combinations.get(i), i);
+        }
+        this.taken = new BitSet(combinations.size());
+    }
+
+    /**
+     * 사용 중인 닉네임 적재 (기동 시 및 주기적으로)
+     * 적재하는 동안 이 서버에서 할당한 닉네임은 적재 결과와 합친다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        synchronized (loadLock) {
+            synchronized (this) {
+                allocatedDuringLoad = new BitSet(combinations.size());
+                suffixedDuringLoad = new HashSet<>();
+            }
+
+            BitSet loadedTaken = new BitSet(combinations.size());
+            Set<String> loadedSuffixed = new HashSet<>();
+            try {
+                jdbcTemplate.query("select nickname from `user` where nickname is not null",
+                        rs -> {
+                            mark(rs.getString(1), loadedTaken, loadedSuffixed);
+                        });
+            } catch (RuntimeException e) {
+                synchronized (this) {
+                    allocatedDuringLoad = null;
+                    suffixedDuringLoad = null;
+                }
+                throw e;
+            }
+
+            synchronized (this) {
+                loadedTaken.or(allocatedDuringLoad);
+                loadedSuffixed.addAll(suffixedDuringLoad);
+                taken = loadedTaken;
+                suffixed = loadedSuffixed;
+                allocatedDuringLoad = null;
+                suffixedDuringLoad = null;
+                log.debug("nickname allocator loaded. taken={}/{}, suffixed={}",
+                        taken.cardinality(), combinations.size(), suffixed.size());
+            }
+        }
+    }
+
+    /**
+     * 사용하지 않은 조합 중 하나를 균등한 확률로 할당 (모두 사용 중이면 숫자 접미사)
+     */
+    @Override
+    public synchronized String generate() {
+        int index = pickClearIndex();
+        if (index >= 0) {
+            markTaken(combinations.get(index));
+            return combinations.get(index);
+        }
+
+        int size = combinations.size();
+        String nickname;
+        do {
+            nickname = combinations.get(ThreadLocalRandom.current().nextInt(size))
+                    + ThreadLocalRandom.current().nextInt(1, MAX_SUFFIX);
+        } while (suffixed.contains(nickname));
+        markTaken(nickname);
+        return nickname;
+    }
+
+    @Override
+    public synchronized void markTaken(String nickname) {
+        mark(nickname, taken, suffixed);
+        if (allocatedDuringLoad != null) {
+            mark(nickname, allocatedDuringLoad, suffixedDuringLoad);
+        }
+    }
+
+    /**
+     * 빈 조합 중 하나를 균등하게 선택 (없으면 -1)
+     * 무작위 위치가 비어 있으면 그대로 쓰고, 여러 번 실패하면 빈 조합 중 k 번째를 직접 찾는다.
+     * 다음 빈 비트를 고르는 방식은 긴 사용 구간 바로 뒤 조합이 더 자주 뽑혀 쓰지 않는다.
+     */
+    private int pickClearIndex() {
+        int size = combinations.size();
+        int clear = size - taken.cardinality();
+        if (clear <= 0) {
+            return -1;
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int probe = 0; probe < RANDOM_PROBES; probe++) {
+            int index = random.nextInt(size);
+            if (!taken.get(index)) {
+                return index;
+            }
+        }
+
+        int index = taken.nextClearBit(0);
+        for (int k = random.nextInt(clear); k > 0; k--) {
+            index = taken.nextClearBit(index + 1);
+        }
+        return index;
+    }
+
+    private void mark(String nickname, BitSet takenBits, Set<String> suffixedNames) {
+        Integer index = combinationIndex.get(nickname);
+        if (index != null) {
+            takenBits.set(index);
+        } else {
+            suffixedNames.add(nickname);
+        }
+    }
+
     @Override
-    public String generate() {
-        int animalIndex =
-                ThreadLocalRandom.current()
-                        .nextInt(NicknameGenerationConstants.ANIMAL_NAMES.length);
-        int prefixIndex =
-                ThreadLocalRandom.current()
-                        .nextInt(NicknameGenerationConstants.PREFIX_NAMES.length);
-
-        String animalName = NicknameGenerationConstants.ANIMAL_NAMES[animalIndex];
-        String prefix = NicknameGenerationConstants.PREFIX_NAMES[prefixIndex];
-
-        return prefix + animalName;
+    public synchronized void release(String nickname) {
+        unmark(nickname, taken, suffixed);
+        if (allocatedDuringLoad != null) {
+            unmark(nickname, allocatedDuringLoad, suffixedDuringLoad);
+        }
+    }
+
+    private void unmark(String nickname, BitSet takenBits, Set<String> suffixedNames) {
+        Integer index = combinationIndex.get(nickname);
+        if (index != null) {
+            takenBits.clear(index);
+        } else {
+            suffixedNames.remove(nickname);
+        }
     }
 }
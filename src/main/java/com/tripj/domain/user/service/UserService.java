@@ -3,7 +3,10 @@ package com.tripj.domain.user.service;
 import com.tripj.domain.checklist.repository.CheckListRepository;
 import com.tripj.domain.inquiry.repository.InquiryRepository;
 import com.tripj.domain.item.repository.ItemRepository;
+import com.tripj.domain.token.service.RefreshTokenService;
+import com.tripj.domain.token.service.TokenRevocationService;
 import com.tripj.domain.trip.repository.TripRepository;
+import com.tripj.domain.trip.service.CurrentTripCache;
 import com.tripj.domain.user.model.dto.request.UpdateNicknameRequest;
 import com.tripj.domain.user.model.dto.response.DeleteUserResponse;
 import com.tripj.domain.user.model.dto.response.GetNicknameResponse;
@@ -12,7 +15,6 @@ import com.tripj.domain.user.model.dto.response.UpdateNicknameResponse;
 import com.tripj.domain.user.model.entity.User;
 import com.tripj.domain.user.repository.UserRepository;
 import com.tripj.domain.user.repository.nickname.GenerateRandomNicknameRepository;
-import com.tripj.global.error.exception.AuthenticationException;
 import com.tripj.global.error.exception.BusinessException;
 import com.tripj.global.error.exception.ForbiddenException;
 import com.tripj.global.error.exception.NotFoundException;
@@ -20,9 +22,11 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-import java.time.LocalDateTime;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static com.tripj.global.code.ErrorCode.*;
 
@@ -32,51 +36,75 @@ import static com.tripj.global.code.ErrorCode.*;
 @RequiredArgsConstructor
 public class UserService {
 
+    private static final int MAX_REGISTER_ATTEMPTS = 3;
+
     private final UserRepository userRepository;
     private final ItemRepository itemRepository;
     private final TripRepository tripRepository;
+    private final CurrentTripCache currentTripCache;
     private final InquiryRepository inquiryRepository;
     private final CheckListRepository checkListRepository;
     private final GenerateRandomNicknameRepository nicknameRepository;
+    private final RefreshTokenService refreshTokenService;
+    private final TokenRevocationService tokenRevocationService;
 
     /**
-     * 회원가입
+     * 이메일로 회원 조회, 없으면 회원가입
+     * 신규 회원은 upsert 한 건으로 등록해 동시 가입 요청도 같은 회원으로 합쳐진다.
      */
-    public User registerUser(User user) {
-        validateDuplicateUser(user);
-        return userRepository.save(user);
-    }
-
-    /**
-     * 회원 중복 검사
-     */
-    @Transactional(readOnly = true)
-    public void validateDuplicateUser(User user) {
-        Optional<User> optionalUser = userRepository.findByEmail(user.getEmail());
-
+    public User findOrRegisterUser(String email, Supplier<User> newUser) {
+        Optional<User> optionalUser = userRepository.findByEmail(email);
         if (optionalUser.isPresent()) {
-            throw new BusinessException(ALREADY_REGISTERED_USER);
+            return optionalUser.get();
         }
+
+        for (int attempt = 0; attempt < MAX_REGISTER_ATTEMPTS; attempt++) {
+            User candidate = newUser.get();
+            Long userId;
+            try {
+                userId = userRepository.upsertByEmail(candidate);
+            } catch (RuntimeException e) {
+                nicknameRepository.release(candidate.getNickname());
+                throw e;
+            }
+            User user = userRepository.findById(userId)
+                    .orElseThrow(() -> new NotFoundException(E404_NOT_EXISTS_USER));
+
+            // 다른 서버에서 같은 닉네임을 먼저 사용했으면 (사용 중으로 두고) 새 닉네임으로 다시 시도
+            if (user.getEmail().equalsIgnoreCase(email)) {
+                if (candidate.getNickname().equals(user.getNickname())) {
+                    releaseNicknameOnRollback(candidate.getNickname());
+                } else {
+                    // 동시 가입 요청이 같은 이메일로 먼저 등록해 할당한 닉네임을 쓰지 않음
+                    nicknameRepository.release(candidate.getNickname());
+                }
+                return user;
+            }
+        }
+        throw new BusinessException(ALREADY_EXISTED_NICKNAME);
     }
 
     /**
-     * 이메일로 회원 찾기
+     * 회원가입 트랜잭션이 롤백되면 할당한 닉네임 반납
      */
-    @Transactional(readOnly = true)
-    public Optional<User> findUserByEmail(String email) {
-        return userRepository.findByEmail(email);
+    private void releaseNicknameOnRollback(String nickname) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        nicknameRepository.release(nickname);
+                    }
+                }
+            });
+        }
     }
 
     /**
      * 랜덤 닉네임 생성
      */
     public String generateRandomNickname() {
-        while (true) {
-            String nickname = nicknameRepository.generate();
-            if (!userRepository.existsByNickname(nickname)) {
-                return nickname;
-            }
-        }
+        return nicknameRepository.generate();
     }
 
     /**
@@ -107,25 +135,14 @@ public class UserService {
             throw new BusinessException(ALREADY_EXISTED_NICKNAME);
         }
 
+        String oldNickname = user.getNickname();
         user.updateNickname(request.getNickname());
-
-        return UpdateNicknameResponse.of(user.getNickname());
-    }
-
-    /**
-     * accessToken 재발급
-     */
-    @Transactional(readOnly = true)
-    public User findUserByRefreshToken(String refreshToken) {
-        User user = userRepository.findByRefreshToken(refreshToken)
-            .orElseThrow(() -> new AuthenticationException(E403_NOT_FOUND_REFRESH_TOKEN));
-
-        LocalDateTime tokenExpireTime = user.getTokenExpirationTime();
-        if (tokenExpireTime.isBefore(LocalDateTime.now())) {
-            throw new AuthenticationException(E403_REFRESH_TOKEN_EXPIRED);
+        nicknameRepository.markTaken(request.getNickname());
+        if (oldNickname != null) {
+            nicknameRepository.release(oldNickname);
         }
 
-        return user;
+        return UpdateNicknameResponse.of(user.getNickname());
     }
 
     /**
@@ -135,9 +152,8 @@ public class UserService {
         User user = userRepository.findById(userId)
             .orElseThrow(() -> new NotFoundException(E404_NOT_EXISTS_USER));
 
-        LocalDateTime now = LocalDateTime.now();
-
-        user.updateRefreshTokenNow(now);
+        refreshTokenService.revokeAll(user.getId());
+        tokenRevocationService.revoke(user.getId());
 
         return LogoutResponse.of(user);
     }
@@ -152,8 +168,14 @@ public class UserService {
         checkListRepository.deleteByUserId(user.getId());
         itemRepository.deleteByUserId(user.getId());
         tripRepository.deleteByUserId(user.getId());
+        currentTripCache.evict(user.getId());
         inquiryRepository.deleteByUserId(user.getId());
+        refreshTokenService.deleteAll(user.getId());
+        tokenRevocationService.revoke(user.getId());
         userRepository.deleteById(user.getId());
+        if (user.getNickname() != null) {
+            nicknameRepository.release(user.getNickname());
+        }
 
         return DeleteUserResponse.of(user.getId());
     }
@@ -5,7 +5,7 @@ import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestHeader;
 
-@FeignClient(url = "https://kapi.kakao.com", name = "kakaoUserInfoClient")
+@FeignClient(url = "${kakao.api.url:https://kapi.kakao.com}", name = "kakaoUserInfoClient")
 public interface KakaoUserInfoClient {
 
     @GetMapping(value = "/v2/user/me", consumes = "application/json")
@@ -1,28 +1,85 @@
 package com.tripj.external.oauth.kakao.service;
 
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.tripj.domain.user.constant.UserType;
 import com.tripj.external.oauth.kakao.client.KakaoUserInfoClient;
 import com.tripj.external.oauth.kakao.dto.KakaoUserInfoResponseDto;
 import com.tripj.external.oauth.model.OAuthAttributes;
 import com.tripj.external.oauth.service.SocialLoginApiService;
 import com.tripj.jwt.constant.GrantType;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * 카카오 회원정보 조회
+ * 같은 카카오 accessToken 의 조회 결과는 짧게 캐시하고(토큰 원문 대신 SHA-256 digest 를 키로 사용),
+ * 동시에 들어온 같은 토큰의 요청은 먼저 들어온 요청의 카카오 API 호출 결과를 함께 기다린다.
+ * 조회에 실패하면 캐시에 남기지 않는다.
+ */
 @Slf4j
 @Service
-@Transactional
-@RequiredArgsConstructor
 public class KakaoLoginApiServiceImpl implements SocialLoginApiService {
 
+    private static final String CACHE_NAME = "kakaoUserInfo";
+
     private final KakaoUserInfoClient kakaoUserInfoClient;
+    private final AsyncCache<String, OAuthAttributes> userInfoCache;
     private final String CONTENT_TYPE = "application/x-www-form-urlencoded;charset=utf-8";
 
+    public KakaoLoginApiServiceImpl(KakaoUserInfoClient kakaoUserInfoClient,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${kakao.user-info.cache-ttl-seconds:30}") long ttlSeconds,
+                                    @Value("${kakao.user-info.cache-maximum-size:10000}") long maximumSize) {
+        this.kakaoUserInfoClient = kakaoUserInfoClient;
+        this.userInfoCache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, userInfoCache, CACHE_NAME);
+    }
+
     @Override
     public OAuthAttributes getUserInfo(String accessToken) {
+        String key = DigestUtils.sha256Hex(accessToken);
+        CompletableFuture<OAuthAttributes> loading = new CompletableFuture<>();
+        CompletableFuture<OAuthAttributes> userInfo = userInfoCache.get(key, (k, executor) -> loading);
+
+        // 처음 요청한 스레드만 카카오 API 를 호출하고, 나머지는 결과를 기다린다.
+        // 어떤 예외(Error 포함)로 끝나도 기다리는 요청이 멈추지 않도록 완료시키고 캐시에서 지운다.
+        if (userInfo == loading) {
+            try {
+                loading.complete(requestUserInfo(accessToken));
+            } catch (Throwable t) {
+                loading.completeExceptionally(t);
+                userInfoCache.asMap().remove(key, loading);
+            }
+        }
+
+        try {
+            return userInfo.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private OAuthAttributes requestUserInfo(String accessToken) {
         KakaoUserInfoResponseDto kakaoUserInfoResponseDto =
                 kakaoUserInfoClient.getKakaoUserInfo(CONTENT_TYPE,
                                           GrantType.BEARER.getType() + " " + accessToken);
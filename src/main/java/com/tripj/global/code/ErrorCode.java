@@ -15,6 +15,7 @@ public enum ErrorCode {
     E400_BINDING_RESULT(BAD_REQUEST, false, "BR001", "잘못된 Binding 입니다"),
     E400_INVALID_UPLOAD_FILE_EXTENSION(BAD_REQUEST, false , "BR002", "잘못된 파일 확장자입니다."),
     E400_INVALID_FILE_COUNT_TOO_MANY(BAD_REQUEST, false , "BR003", "업로드 가능한 파일 개수를 초과했습니다."),
+    E400_INVALID_CURSOR(BAD_REQUEST, false, "BR004", "잘못된 커서 값입니다."),
 
     /**
      * 403 Forbidden (권한 등의 이유로 허용하지 않는 요청)
@@ -83,7 +84,9 @@ public enum ErrorCode {
     REFRESH_TOKEN_NOT_FOUND(UNAUTHORIZED, false, "A005", "해당 refresh token은 존재하지 않습니다."),
     REFRESH_TOKEN_EXPIRED(UNAUTHORIZED, false, "A006", "해당 refresh token은 만료되었습니다."),
     NOT_ACCESS_TOKEN_TYPE(UNAUTHORIZED, false, "A007", "해당 토큰은 ACCESS TOKEN이 아닙니다."),
-    FORBIDDEN_ADMIN(FORBIDDEN, false, "A008", "관리자 Role이 아닙니다.");
+    FORBIDDEN_ADMIN(FORBIDDEN, false, "A008", "관리자 Role이 아닙니다."),
+    REFRESH_TOKEN_REUSED(UNAUTHORIZED, false, "A009", "이미 사용된 refresh token입니다. 다시 로그인해 주세요."),
+    REVOKED_TOKEN(UNAUTHORIZED, false, "A010", "로그아웃된 토큰입니다.");
 
 
 
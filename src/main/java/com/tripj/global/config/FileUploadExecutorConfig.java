@@ -0,0 +1,30 @@
+package com.tripj.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class FileUploadExecutorConfig {
+
+    /**
+     * 파일 업로드 전용 스레드 풀
+     * 동시 업로드 수를 제한하고, 큐가 가득 차면 요청 스레드에서 직접 업로드한다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor fileUploadExecutor(
+            @Value("${file.upload.concurrency:4}") int concurrency,
+            @Value("${file.upload.queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(concurrency);
+        executor.setMaxPoolSize(concurrency);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("file-upload-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+}
@@ -0,0 +1,48 @@
+package com.tripj.global.config.jpa.migration;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * check_list.item_ref_id 채우기 (uk_check_list_trip_item 중복 방지 기준)
+ * 이전에는 중복 추가를 조회로만 막아 같은 아이템이 두 번 담긴 행이 있을 수 있어, 먼저 등록한 행만 남긴다.
+ */
+@Slf4j
+@Order(25)
+@Component
+@RequiredArgsConstructor
+public class CheckListItemRefIdMigration implements DataMigration {
+
+    private static final int CHUNK_SIZE = 10000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public String name() {
+        return "check-list-item-ref-id";
+    }
+
+    @Override
+    public void migrate() {
+        int duplicates = jdbcTemplate.update(
+                "delete c from check_list c " +
+                "join check_list k on k.trip_id = c.trip_id and k.item_type = c.item_type " +
+                "and coalesce(k.item_id, k.fixed_item_id) = coalesce(c.item_id, c.fixed_item_id) " +
+                "and k.checklist_id < c.checklist_id");
+
+        int total = 0;
+        int updated;
+        do {
+            updated = jdbcTemplate.update(
+                    "update check_list set item_ref_id = coalesce(item_id, fixed_item_id) " +
+                    "where item_ref_id is null " +
+                    "limit " + CHUNK_SIZE);
+            total += updated;
+        } while (updated == CHUNK_SIZE);
+
+        log.info("check_list item_ref_id backfilled. count={}, duplicatesRemoved={}", total, duplicates);
+    }
+}
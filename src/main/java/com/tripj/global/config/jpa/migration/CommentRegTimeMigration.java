@@ -0,0 +1,43 @@
+package com.tripj.global.config.jpa.migration;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 등록일 없이 저장된 댓글은 게시글 등록일로 채운다 (댓글 커서 페이징 정렬 기준)
+ */
+@Slf4j
+@Order(9)
+@Component
+@RequiredArgsConstructor
+public class CommentRegTimeMigration implements DataMigration {
+
+    private static final int CHUNK_SIZE = 10000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public String name() {
+        return "comment-reg-time";
+    }
+
+    @Override
+    public void migrate() {
+        int total = 0;
+        int updated;
+        do {
+            updated = jdbcTemplate.update(
+                    "update comment c " +
+                    "join (select comment_id from comment where reg_time is null limit " + CHUNK_SIZE + ") n " +
+                    "on n.comment_id = c.comment_id " +
+                    "left join board b on b.board_id = c.board_id " +
+                    "set c.reg_time = coalesce(b.reg_time, now())");
+            total += updated;
+        } while (updated == CHUNK_SIZE);
+
+        log.info("comment reg_time backfilled. count={}", total);
+    }
+}
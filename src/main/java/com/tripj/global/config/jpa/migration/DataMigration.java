@@ -0,0 +1,15 @@
+package com.tripj.global.config.jpa.migration;
+
+/**
+ * 기동 시 한 번만 실행하는 이전 버전 데이터 변환 단계
+ * 실행 순서는 @Order (단계를 도입한 순서), 완료 여부는 DataMigrationRunner 가 기록한다.
+ */
+public interface DataMigration {
+
+    /**
+     * 완료 표시 이름 (batch_checkpoint.job_name 에 "migration." 을 붙여 저장)
+     */
+    String name();
+
+    void migrate();
+}
@@ -0,0 +1,68 @@
+package com.tripj.global.config.jpa.migration;
+
+import com.tripj.domain.batch.service.BatchCheckpointService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 데이터 변환 단계 실행기
+ * 모든 빈 생성 직후, 웹 서버가 요청을 받기 전에 완료 표시가 없는 단계만 순서대로 실행한다.
+ * 끝난 단계는 batch_checkpoint 에 완료를 기록해 다음 기동부터는 조회 한 번으로 건너뛴다.
+ * 단계가 실패하면 기동을 멈춰 반쯤 변환된 데이터로 요청을 받지 않는다.
+ * 단계는 MySQL 전용 SQL 이므로 다른 DB(H2 테스트 등)이거나 data.migration.enabled=false 면 실행하지 않는다.
+ */
+@Slf4j
+@Component
+public class DataMigrationRunner implements SmartInitializingSingleton {
+
+    private static final String JOB_PREFIX = "migration.";
+
+    private final List<DataMigration> migrations;
+    private final BatchCheckpointService batchCheckpointService;
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+
+    public DataMigrationRunner(List<DataMigration> migrations,
+                               BatchCheckpointService batchCheckpointService,
+                               JdbcTemplate jdbcTemplate,
+                               @Value("${data.migration.enabled:true}") boolean enabled) {
+        this.migrations = migrations;
+        this.batchCheckpointService = batchCheckpointService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!enabled) {
+            log.info("data migration disabled.");
+            return;
+        }
+
+        String database = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+        if (!"MySQL".equalsIgnoreCase(database)) {
+            log.info("data migration skipped. database={}", database);
+            return;
+        }
+
+        for (DataMigration migration : migrations) {
+            String jobName = JOB_PREFIX + migration.name();
+            if (batchCheckpointService.isCompleted(jobName)) {
+                continue;
+            }
+
+            long start = System.currentTimeMillis();
+            migration.migrate();
+            batchCheckpointService.markCompleted(jobName);
+            log.info("data migration completed. name={}, elapsed={}ms",
+                    migration.name(), System.currentTimeMillis() - start);
+        }
+    }
+}
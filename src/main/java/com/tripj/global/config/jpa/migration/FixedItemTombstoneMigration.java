@@ -0,0 +1,71 @@
+package com.tripj.global.config.jpa.migration;
+
+import com.tripj.domain.trip.model.entity.Trip;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 고정 아이템 삭제 표시 행 (item.fixed_item_delyn = 'Y') -> trip.hidden_fixed_items
+ * 이전에는 회원 단위로 숨겼으므로 화면이 바뀌지 않도록 회원의 모든 여행에 같은 비트를 켠다.
+ * ddl-auto 는 이미 있는 컬럼 타입을 바꾸지 않으므로, varbinary(256) 으로 먼저 생성된 컬럼은 longblob 으로 넓힌다.
+ */
+@Slf4j
+@Order(24)
+@Component
+@RequiredArgsConstructor
+public class FixedItemTombstoneMigration implements DataMigration {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public String name() {
+        return "fixed-item-tombstone";
+    }
+
+    @Override
+    public void migrate() {
+        if ("varbinary".equalsIgnoreCase(SchemaSupport.columnType(jdbcTemplate, "trip", "hidden_fixed_items"))) {
+            jdbcTemplate.execute("alter table trip modify hidden_fixed_items longblob");
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Map<Long, BitSet> hiddenByTrip = new LinkedHashMap<>();
+            jdbcTemplate.query(
+                    "select t.trip_id, t.hidden_fixed_items, d.fixed_item_id " +
+                    "from item d join trip t on t.user_id = d.user_id " +
+                    "where d.fixed_item_delyn = 'Y' and d.fixed_item_id is not null",
+                    rs -> {
+                        long fixedItemId = rs.getLong("fixed_item_id");
+                        if (!Trip.isHideableFixedItemId(fixedItemId)) {
+                            log.warn("fixed item tombstone skipped. fixedItemId={}", fixedItemId);
+                            return;
+                        }
+                        byte[] hidden = rs.getBytes("hidden_fixed_items");
+                        hiddenByTrip.computeIfAbsent(rs.getLong("trip_id"), tripId -> Trip.hiddenFixedItemsOf(hidden))
+                                .set((int) fixedItemId);
+                    });
+
+            List<Object[]> args = new ArrayList<>(hiddenByTrip.size());
+            hiddenByTrip.forEach((tripId, hidden) ->
+                    args.add(new Object[]{Trip.toHiddenFixedItems(hidden), tripId}));
+            jdbcTemplate.batchUpdate("update trip set hidden_fixed_items = ? where trip_id = ?", args);
+
+            // 건너뛴 행은 목록 조회에서 계속 제외되므로 지우지 않고 남겨 둔다.
+            int items = jdbcTemplate.update(
+                    "delete from item where fixed_item_delyn = 'Y' " +
+                    "and (fixed_item_id is null or fixed_item_id between 0 and ?)", Integer.MAX_VALUE);
+            log.info("fixed item tombstones migrated. items={}, trips={}", items, hiddenByTrip.size());
+        });
+    }
+}
@@ -0,0 +1,53 @@
+package com.tripj.global.config.jpa.migration;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * liked_board 중복 좋아요 정리 후 uk_liked_board_user_board 추가
+ * 이전에는 중복 좋아요를 조회로만 막아 같은 (user_id, board_id) 행이 여러 개 있을 수 있어, 먼저 누른 행만 남긴다.
+ */
+@Slf4j
+@Order(8)
+@Component
+@RequiredArgsConstructor
+public class LikedBoardDedupeMigration implements DataMigration {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public String name() {
+        return "liked-board-dedupe";
+    }
+
+    @Override
+    public void migrate() {
+        List<Long> boardIds = jdbcTemplate.queryForList(
+                "select board_id from liked_board " +
+                "group by user_id, board_id having count(*) > 1",
+                Long.class);
+
+        int duplicates = jdbcTemplate.update(
+                "delete l from liked_board l " +
+                "join liked_board k on k.user_id = l.user_id and k.board_id = l.board_id " +
+                "and k.liked_board_id < l.liked_board_id");
+
+        // 중복 행까지 센 좋아요 수 바로잡기
+        jdbcTemplate.batchUpdate(
+                "update board set like_count = " +
+                "(select count(*) from liked_board lb where lb.board_id = ?) " +
+                "where board_id = ?",
+                boardIds.stream().distinct().map(id -> new Object[]{id, id}).toList());
+
+        boolean added = SchemaSupport.addUniqueKeyIfMissing(
+                jdbcTemplate, "liked_board", "uk_liked_board_user_board", "user_id", "board_id");
+
+        log.info("liked_board deduplicated. duplicatesRemoved={}, boards={}, uniqueKeyAdded={}",
+                duplicates, boardIds.size(), added);
+    }
+}
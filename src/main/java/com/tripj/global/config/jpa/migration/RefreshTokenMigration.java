@@ -0,0 +1,59 @@
+package com.tripj.global.config.jpa.migration;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * user.refresh_token -> refresh_token (token_hash, family_id)
+ * 배포 전에 로그인한 사용자가 다시 로그인하지 않아도 재발급할 수 있도록, 남아 있는 토큰을 digest 로 옮긴다.
+ * 토큰마다 새 family 로 시작하며, 이미 만료된 토큰은 옮기지 않는다.
+ */
+@Slf4j
+@Order(13)
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenMigration implements DataMigration {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public String name() {
+        return "refresh-token-hash";
+    }
+
+    @Override
+    public void migrate() {
+        if (!SchemaSupport.hasColumn(jdbcTemplate, "user", "refresh_token")) {
+            return;
+        }
+
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        List<Object[]> args = jdbcTemplate.query(
+                "select user_id, refresh_token, token_expiration_time from `user` " +
+                "where refresh_token is not null and token_expiration_time > now()",
+                (rs, rowNum) -> new Object[]{
+                        DigestUtils.sha256Hex(rs.getString("refresh_token")),
+                        UUID.randomUUID().toString(),
+                        rs.getLong("user_id"),
+                        rs.getTimestamp("token_expiration_time"),
+                        now,
+                        now
+                });
+
+        jdbcTemplate.batchUpdate(
+                "insert ignore into refresh_token " +
+                "(token_hash, family_id, user_id, expiration_time, used, revoked, reg_time, update_time) " +
+                "values (?, ?, ?, ?, false, false, ?, ?)",
+                args);
+
+        log.info("legacy refresh tokens migrated. count={}", args.size());
+    }
+}
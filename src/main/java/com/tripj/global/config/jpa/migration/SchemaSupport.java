@@ -0,0 +1,52 @@
+package com.tripj.global.config.jpa.migration;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 마이그레이션용 스키마 보조
+ * ddl-auto 는 중복 행이 있으면 unique 제약 추가에 실패한 채 넘어가므로, 중복 정리 후 여기서 다시 추가한다.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class SchemaSupport {
+
+    static boolean hasIndex(JdbcTemplate jdbcTemplate, String table, String indexName) {
+        Integer count = jdbcTemplate.queryForObject(
+                "select count(*) from information_schema.statistics " +
+                "where table_schema = database() and table_name = ? and index_name = ?",
+                Integer.class, table, indexName);
+        return count != null && count > 0;
+    }
+
+    static boolean hasColumn(JdbcTemplate jdbcTemplate, String table, String column) {
+        Integer count = jdbcTemplate.queryForObject(
+                "select count(*) from information_schema.columns " +
+                "where table_schema = database() and table_name = ? and column_name = ?",
+                Integer.class, table, column);
+        return count != null && count > 0;
+    }
+
+    /**
+     * 컬럼 타입 (information_schema.columns.data_type, 컬럼이 없으면 null)
+     */
+    static String columnType(JdbcTemplate jdbcTemplate, String table, String column) {
+        return jdbcTemplate.query(
+                "select data_type from information_schema.columns " +
+                "where table_schema = database() and table_name = ? and column_name = ?",
+                rs -> rs.next() ? rs.getString(1) : null, table, column);
+    }
+
+    /**
+     * unique 제약이 없을 때만 추가
+     * @return 새로 추가했으면 true
+     */
+    static boolean addUniqueKeyIfMissing(JdbcTemplate jdbcTemplate, String table, String name, String... columns) {
+        if (hasIndex(jdbcTemplate, table, name)) {
+            return false;
+        }
+        jdbcTemplate.execute("alter table `" + table + "` add constraint " + name +
+                " unique (" + String.join(", ", columns) + ")");
+        return true;
+    }
+}
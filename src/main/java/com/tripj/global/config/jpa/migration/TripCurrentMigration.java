@@ -0,0 +1,56 @@
+package com.tripj.global.config.jpa.migration;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * trip.previous (NOW, B01, B02 ...) -> is_current, trip_seq
+ * Bxx 형식이 아닌 지난 여행은 회원의 마지막 순번 뒤에 종료일 순으로 순번을 붙인다.
+ */
+@Slf4j
+@Order(18)
+@Component
+@RequiredArgsConstructor
+public class TripCurrentMigration implements DataMigration {
+
+    private static final int CHUNK_SIZE = 10000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public String name() {
+        return "trip-current-seq";
+    }
+
+    @Override
+    public void migrate() {
+        int total = 0;
+        int updated;
+        do {
+            updated = jdbcTemplate.update(
+                    "update trip " +
+                    "set is_current = (previous = 'NOW'), " +
+                    "    trip_seq = case when previous regexp '^B[0-9]+$' then cast(substring(previous, 2) as unsigned) end, " +
+                    "    previous = null " +
+                    "where previous is not null " +
+                    "limit " + CHUNK_SIZE);
+            total += updated;
+        } while (updated == CHUNK_SIZE);
+
+        int sequenced = jdbcTemplate.update(
+                "update trip t join (" +
+                "    select p.trip_id, coalesce(m.max_seq, 0) " +
+                "        + row_number() over (partition by p.user_id order by p.end_date, p.trip_id) as seq " +
+                "    from trip p " +
+                "    left join (select user_id, max(trip_seq) as max_seq from trip group by user_id) m " +
+                "        on m.user_id = p.user_id " +
+                "    where p.is_current = false and p.trip_seq is null" +
+                ") n on n.trip_id = t.trip_id " +
+                "set t.trip_seq = n.seq");
+
+        log.info("trip previous migrated. count={}, sequenced={}", total, sequenced);
+    }
+}
@@ -0,0 +1,41 @@
+package com.tripj.global.config.jpa.migration;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 중복 닉네임 정리 후 uk_user_nickname 추가
+ * 먼저 가입한 회원의 닉네임은 그대로 두고, 나머지는 닉네임 뒤에 "_회원 ID" 를 붙인다.
+ * 닉네임 입력/생성 규칙에 "_" 가 없어 기존 닉네임과 겹치지 않는다.
+ */
+@Slf4j
+@Order(16)
+@Component
+@RequiredArgsConstructor
+public class UserNicknameDedupeMigration implements DataMigration {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public String name() {
+        return "user-nickname-dedupe";
+    }
+
+    @Override
+    public void migrate() {
+        int renamed = jdbcTemplate.update(
+                "update `user` u " +
+                "join (select d.user_id from `user` d " +
+                "      join `user` k on k.nickname = d.nickname and k.user_id < d.user_id " +
+                "      group by d.user_id) dup on dup.user_id = u.user_id " +
+                "set u.nickname = concat(u.nickname, '_', u.user_id)");
+
+        boolean added = SchemaSupport.addUniqueKeyIfMissing(
+                jdbcTemplate, "user", "uk_user_nickname", "nickname");
+
+        log.info("user nickname deduplicated. renamed={}, uniqueKeyAdded={}", renamed, added);
+    }
+}
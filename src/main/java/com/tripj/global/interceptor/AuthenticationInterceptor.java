@@ -1,10 +1,11 @@
 package com.tripj.global.interceptor;
 
+import com.tripj.domain.token.service.TokenRevocationList;
 import com.tripj.global.code.ErrorCode;
 import com.tripj.global.error.exception.AuthenticationException;
 import com.tripj.global.util.AuthorizationHeaderUtils;
 import com.tripj.jwt.constant.TokenType;
-import com.tripj.jwt.service.TokenManager;
+import com.tripj.jwt.service.VerifiedTokenCache;
 import io.jsonwebtoken.Claims;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -17,7 +18,13 @@ import org.springframework.web.servlet.HandlerInterceptor;
 @RequiredArgsConstructor
 public class AuthenticationInterceptor implements HandlerInterceptor {
 
-    private final TokenManager tokenManager;
+    /**
+     * 검증된 accessToken claim 을 담는 요청 속성 (UserInfoArgumentResolver 에서 재사용)
+     */
+    public static final String VERIFIED_CLAIMS = AuthenticationInterceptor.class.getName() + ".VERIFIED_CLAIMS";
+
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenRevocationList tokenRevocationList;
 
     //preHandle() 메서드는 컨트롤러보다 먼저 수행
     @Override
@@ -34,18 +41,25 @@ public class AuthenticationInterceptor implements HandlerInterceptor {
             return true;
         }
 
-        // 2. 토큰 검증
+        // 2. 토큰 검증 및 내용 조회
         String accessToken = authorizationHeader.split(" ")[1];
-        tokenManager.validateToken(accessToken);
+        Claims tokenClaims = verifiedTokenCache.getVerifiedClaims(accessToken);
 
         // 3. 토큰 타입
-        Claims tokenClaims = tokenManager.getTokenClaims(accessToken); // 토큰의 내용을 조회
         String tokenType = tokenClaims.getSubject(); // 토큰의 타입을 조회
 
         if (!TokenType.isAccessToken(tokenType)) {
             throw new AuthenticationException(ErrorCode.NOT_ACCESS_TOKEN_TYPE);
         }
 
+        // 4. 로그아웃(폐기) 여부
+        Long userId = ((Number) tokenClaims.get("userId")).longValue();
+        if (tokenRevocationList.isRevoked(userId, tokenClaims)) {
+            throw new AuthenticationException(ErrorCode.REVOKED_TOKEN);
+        }
+
+        request.setAttribute(VERIFIED_CLAIMS, tokenClaims);
+
         return true;
     }
 }
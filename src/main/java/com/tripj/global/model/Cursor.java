@@ -0,0 +1,85 @@
+package com.tripj.global.model;
+
+import com.tripj.global.code.ErrorCode;
+import com.tripj.global.error.exception.InvalidException;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 커서 기반 페이징 커서 (등록일, ID)
+ * 등록일이 없는 이전 데이터는 등록일 자리를 비워 인코딩하고 ID 로만 이어간다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class Cursor {
+
+    private static final String DELIMITER = "_";
+
+    private LocalDateTime regTime;
+
+    private Long id;
+
+    public static Cursor of(LocalDateTime regTime, Long id) {
+        return new Cursor(regTime, id);
+    }
+
+    /**
+     * 클라이언트에 내려준 커서 토큰 복원 (첫 페이지면 null)
+     */
+    public static Cursor decode(String token) {
+        if (!StringUtils.hasText(token)) {
+            return null;
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] values = decoded.split(DELIMITER);
+            if (values.length != 2) {
+                throw new InvalidException(ErrorCode.E400_INVALID_CURSOR);
+            }
+            LocalDateTime regTime = values[0].isEmpty() ? null : LocalDateTime.parse(values[0]);
+            return new Cursor(regTime, Long.parseLong(values[1]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidException(ErrorCode.E400_INVALID_CURSOR);
+        }
+    }
+
+    /**
+     * 순위 기반 목록(검색, 인기글) 커서 -> 다음 페이지 시작 위치
+     * 페이지마다 그 시점의 순위에서 위치로 자르므로, 페이지 사이에 순위가 바뀌면
+     * (좋아요, 게시글 등록/삭제, 점수 감쇠) 앞 페이지의 게시글이 다시 나오거나 일부가 빠질 수 있다.
+     * 순위 목록은 짧고 자주 바뀌어 스냅샷을 두지 않으며, 클라이언트는 게시글 ID 로 중복을 걸러야 한다.
+     */
+    public static int decodeOffset(String token) {
+        if (!StringUtils.hasText(token)) {
+            return 0;
+        }
+
+        try {
+            int offset = Integer.parseInt(token);
+            if (offset < 0) {
+                throw new InvalidException(ErrorCode.E400_INVALID_CURSOR);
+            }
+            return offset;
+        } catch (NumberFormatException e) {
+            throw new InvalidException(ErrorCode.E400_INVALID_CURSOR);
+        }
+    }
+
+    public static String encodeOffset(int offset) {
+        return String.valueOf(offset);
+    }
+
+    public String encode() {
+        String raw = (regTime == null ? "" : regTime.toString()) + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
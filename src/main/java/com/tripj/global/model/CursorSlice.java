@@ -0,0 +1,55 @@
+package com.tripj.global.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.data.domain.Pageable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+@Getter
+@Schema(description = "커서 기반 페이지 조회 DTO")
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class CursorSlice<T> {
+
+    /**
+     * 요청 한 번에 조회 가능한 최대 건수
+     */
+    public static final int MAX_SIZE = 50;
+
+    @Schema(description = "조회 결과")
+    private List<T> content;
+
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    private boolean hasNext;
+
+    @Schema(description = "다음 페이지 조회 커서 (마지막 페이지면 null)", example = "MjAyNC0wNy0xOFQxMDozNzoxNV8xMg")
+    private String nextCursor;
+
+    /**
+     * 요청 페이지 크기 (최대 MAX_SIZE)
+     */
+    public static int sizeOf(Pageable pageable) {
+        return Math.max(1, Math.min(pageable.getPageSize(), MAX_SIZE));
+    }
+
+    public static <T> CursorSlice<T> of(List<T> content, boolean hasNext, String nextCursor) {
+        return new CursorSlice<>(content, hasNext, nextCursor);
+    }
+
+    /**
+     * size + 1 건 조회 결과로 다음 페이지 여부와 커서 계산
+     */
+    public static <T> CursorSlice<T> of(List<T> results, int size, Function<T, Cursor> cursorOf) {
+        if (results.size() <= size) {
+            return new CursorSlice<>(results, false, null);
+        }
+
+        List<T> content = new ArrayList<>(results.subList(0, size));
+        String nextCursor = cursorOf.apply(content.get(content.size() - 1)).encode();
+        return new CursorSlice<>(content, true, nextCursor);
+    }
+}
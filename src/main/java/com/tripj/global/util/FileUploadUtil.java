@@ -3,6 +3,7 @@ package com.tripj.global.util;
 import com.amazonaws.services.s3.AmazonS3Client;
 import com.amazonaws.services.s3.model.CannedAccessControlList;
 import com.amazonaws.services.s3.model.DeleteObjectRequest;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
 import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.PutObjectRequest;
 import com.tripj.domain.common.dto.response.FileUploadResponse;
@@ -10,11 +11,16 @@ import com.tripj.global.code.ErrorCode;
 import com.tripj.global.error.exception.InvalidException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @Component
 @RequiredArgsConstructor
@@ -25,6 +31,8 @@ public class FileUploadUtil {
 
     private final AmazonS3Client amazonS3Client;
 
+    private final ThreadPoolTaskExecutor fileUploadExecutor;
+
     public FileUploadResponse uploadFile(String category, MultipartFile multipartFile) throws IOException {
 
         validateFileExtension(category, multipartFile.getContentType());
@@ -33,6 +41,7 @@ public class FileUploadUtil {
 
         ObjectMetadata objectMetadata = new ObjectMetadata();
         objectMetadata.setContentType(multipartFile.getContentType());
+        objectMetadata.setContentLength(multipartFile.getSize());
 
         // S3에 업로드
         amazonS3Client.putObject(new PutObjectRequest(bucket, fileName, multipartFile.getInputStream(), objectMetadata)
@@ -43,6 +52,46 @@ public class FileUploadUtil {
         return response;
     }
 
+    /**
+     * 여러 파일 동시 업로드 (fileUploadExecutor 의 스레드 수만큼 병렬, 결과는 요청 순서)
+     * 하나라도 실패하면 업로드에 성공한 파일을 지우고 예외를 전파한다.
+     */
+    public List<FileUploadResponse> uploadFiles(String category, List<MultipartFile> multipartFiles) throws IOException {
+
+        multipartFiles.forEach(file -> validateFileExtension(category, file.getContentType()));
+
+        List<CompletableFuture<FileUploadResponse>> uploads = multipartFiles.stream()
+                .map(file -> CompletableFuture.supplyAsync(() -> {
+                    try {
+                        return uploadFile(category, file);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }, fileUploadExecutor))
+                .toList();
+
+        try {
+            CompletableFuture.allOf(uploads.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            deleteFiles(uploads.stream()
+                    .filter(upload -> !upload.isCompletedExceptionally())
+                    .map(upload -> upload.join().getFilePath())
+                    .toList());
+
+            if (e.getCause() instanceof UncheckedIOException io) {
+                throw io.getCause();
+            }
+            if (e.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+            throw e;
+        }
+
+        return uploads.stream()
+                .map(CompletableFuture::join)
+                .toList();
+    }
+
     /**
      * 확장자 확인
      */
@@ -71,6 +120,17 @@ public class FileUploadUtil {
         amazonS3Client.deleteObject(new DeleteObjectRequest(bucket, filePath));
     }
 
+    /**
+     * 여러 파일 한 번에 삭제
+     */
+    public void deleteFiles(List<String> filePaths) {
+        if (filePaths.isEmpty()) {
+            return;
+        }
+        amazonS3Client.deleteObjects(new DeleteObjectsRequest(bucket)
+                .withKeys(filePaths.toArray(String[]::new)));
+    }
+
 
 
 
@@ -8,24 +8,46 @@ import com.tripj.jwt.constant.TokenType;
 import com.tripj.jwt.dto.JwtTokenDto;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.Date;
+import java.util.UUID;
 
 @Slf4j
-@RequiredArgsConstructor
 public class TokenManager {
 
+    /**
+     * 발급 시각 (epoch millisecond, 표준 iat 는 초 단위라 로그아웃 직후 재로그인을 구분하지 못한다)
+     */
+    public static final String ISSUED_AT_MILLIS = "iatMs";
+
     //yml에서 설정한 값
     private final String accessTokenExpirationTime;
     private final String refreshTokenExpirationTime;
     private final String tokenSecret;
 
+    // 검증용 키와 파서는 불변(thread-safe)이라 한 번만 만든다
+    private final SecretKey secretKey;
+    private final JwtParser jwtParser;
+
+    public TokenManager(String accessTokenExpirationTime, String refreshTokenExpirationTime, String tokenSecret) {
+        this.accessTokenExpirationTime = accessTokenExpirationTime;
+        this.refreshTokenExpirationTime = refreshTokenExpirationTime;
+        this.tokenSecret = tokenSecret;
+        this.secretKey = Keys.hmacShaKeyFor(tokenSecret.getBytes(StandardCharsets.UTF_8));
+        this.jwtParser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
+    }
+
     public JwtTokenDto createJwtTokenDto(Long userId, Role role) { //생성하면서 토큰에 역할 넘김
         Date accessTokenExpireTime = createAccessTokenExpireTime();
         Date refreshTokenExpireTime = createRefreshTokenExpireTime();
@@ -53,6 +75,13 @@ public class TokenManager {
                 .build();
     }
 
+    /**
+     * accessToken 유효 기간
+     */
+    public Duration getAccessTokenTimeToLive() {
+        return Duration.ofMillis(Long.parseLong(accessTokenExpirationTime));
+    }
+
     public Date createAccessTokenExpireTime() {
         return new Date(System.currentTimeMillis() + Long.parseLong(accessTokenExpirationTime));
     }
@@ -65,10 +94,12 @@ public class TokenManager {
      * accessToken 생성
      */
     public String createAccessToken(Long userId, Role role, Date expirationTime) {
+        Date issuedAt = new Date();
         String accessToken = Jwts.builder()
                 .setSubject(TokenType.ACCESS.name()) //토큰 제목
-                .setIssuedAt(new Date())            //토큰 발행일자
+                .setIssuedAt(issuedAt)              //토큰 발행일자
                 .setExpiration(expirationTime)      //토큰 만료일자
+                .claim(ISSUED_AT_MILLIS, issuedAt.getTime()) //토큰 발행일자 (밀리초)
                 .claim("userId", userId)  //회원 아이디
                 .claim("role", role.name())   //회원 권한
                 .signWith(SignatureAlgorithm.HS512, tokenSecret.getBytes(StandardCharsets.UTF_8)) //토큰 암호화 알고리즘, secret값
@@ -84,6 +115,7 @@ public class TokenManager {
     public String createRefreshToken(Long userId, Date expirationTime) {
         String refreshToken = Jwts.builder()
                 .setSubject(TokenType.REFRESH.name()) //토큰 제목
+                .setId(UUID.randomUUID().toString()) //같은 시각에 발급해도 토큰이 겹치지 않도록
                 .setIssuedAt(new Date())            //토큰 발행일자
                 .setExpiration(expirationTime)      //토큰 만료일자
                 .claim("userId", userId)  //회원 아이디
@@ -95,42 +127,39 @@ public class TokenManager {
     }
 
     /**
-     * 토큰 검증
+     * 토큰 검증 후 claim 정보 반환 (서명/만료 검증과 파싱을 한 번에)
      */
-    public void validateToken(String token) {
+    public Claims getVerifiedClaims(String token) {
         try {
-            Jwts.parser()
-                    .setSigningKey(Keys.hmacShaKeyFor(tokenSecret.getBytes(StandardCharsets.UTF_8)))
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
+            return jwtParser.parseSignedClaims(token).getPayload();
 
         } catch (ExpiredJwtException e) {
             log.info("token 만료", e);
             throw new AuthenticationException(ErrorCode.TOKEN_EXPIRED);
-        } catch (Exception e) {
+        } catch (JwtException | IllegalArgumentException e) {
             log.info("유효하지 않은 token", e);
             throw new AuthenticationException(ErrorCode.NOT_VALID_TOKEN);
         }
     }
 
+    /**
+     * 토큰 검증
+     */
+    public void validateToken(String token) {
+        getVerifiedClaims(token);
+    }
+
     /**
      * paylod에서 claim 정보 추출
      */
     public Claims getTokenClaims(String token) {
-        Claims claims;
         try {
-            claims = Jwts.parser()
-                        .setSigningKey(Keys.hmacShaKeyFor(tokenSecret.getBytes(StandardCharsets.UTF_8)))
-                        .build()
-                        .parseClaimsJws(token)
-                        .getBody();
+            return jwtParser.parseSignedClaims(token).getPayload();
 
-        } catch (Exception e) {
+        } catch (JwtException | IllegalArgumentException e) {
             log.info("유효하지 않은 token", e);
             throw new AuthenticationException(ErrorCode.NOT_VALID_TOKEN);
         }
-        return claims;
     }
 
 
@@ -0,0 +1,115 @@
+package com.tripj.jwt.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 검증된 토큰 claim 캐시 (메모리)
+ * 토큰 원문 대신 SHA-256 digest 를 키로 쓰고, 각 항목은 토큰의 만료 시각(exp)에 만료된다.
+ * 검증에 실패한 토큰은 저장하지 않는다.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private static final String CACHE_NAME = "verifiedToken";
+
+    private final TokenManager tokenManager;
+    private final Cache<String, Claims> cache;
+    private final Timer verifyTimer;
+
+    private volatile boolean enabled;
+
+    public VerifiedTokenCache(TokenManager tokenManager,
+                              MeterRegistry meterRegistry,
+                              @Value("${token.cache.enabled:true}") boolean enabled,
+                              @Value("${token.cache.maximum-size:100000}") long maximumSize) {
+        this.tokenManager = tokenManager;
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new ExpireAtTokenExp())
+                .recordStats()
+                .build();
+        this.verifyTimer = Timer.builder("token.verify")
+                .description("accessToken 서명/만료 검증 시간 (캐시 미스)")
+                .register(meterRegistry);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 토큰 검증 후 claim 반환 (캐시에 있으면 재검증 생략)
+     */
+    public Claims getVerifiedClaims(String token) {
+        if (!enabled) {
+            return verify(token);
+        }
+
+        String key = DigestUtils.sha256Hex(token);
+        Claims claims = cache.getIfPresent(key);
+        if (claims == null) {
+            claims = verify(token);
+            cache.put(key, claims);
+        }
+        return claims;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 캐시 사용 여부 변경 (끄면 저장된 항목도 비운다)
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        if (!enabled) {
+            cache.invalidateAll();
+        }
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    public double hitRate() {
+        return cache.stats().hitRate();
+    }
+
+    private Claims verify(String token) {
+        return verifyTimer.record(() -> tokenManager.getVerifiedClaims(token));
+    }
+
+    private static class ExpireAtTokenExp implements Expiry<String, Claims> {
+
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            Date expiration = claims.getExpiration();
+            if (expiration == null) {
+                return 0;
+            }
+            long remainingMillis = expiration.getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -1,7 +1,8 @@
 package com.tripj.resolver;
 
 import com.tripj.domain.user.constant.Role;
-import com.tripj.jwt.service.TokenManager;
+import com.tripj.global.interceptor.AuthenticationInterceptor;
+import com.tripj.jwt.service.VerifiedTokenCache;
 import com.tripj.resolver.userinfo.UserInfo;
 import com.tripj.resolver.userinfo.UserInfoDto;
 import io.jsonwebtoken.Claims;
@@ -19,7 +20,7 @@ import org.springframework.web.method.support.ModelAndViewContainer;
 @RequiredArgsConstructor
 public class UserInfoArgumentResolver implements HandlerMethodArgumentResolver {
 
-    private final TokenManager tokenManager;
+    private final VerifiedTokenCache verifiedTokenCache;
 
     @Override
     public boolean supportsParameter(MethodParameter parameter) {
@@ -31,10 +32,15 @@ public class UserInfoArgumentResolver implements HandlerMethodArgumentResolver {
     @Override
     public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer, NativeWebRequest webRequest, WebDataBinderFactory binderFactory) throws Exception {
         HttpServletRequest request = (HttpServletRequest) webRequest.getNativeRequest();
-        String authorizationHeader = request.getHeader("Authorization");
-        String token = authorizationHeader.split(" ")[1];
 
-        Claims tokenClaims = tokenManager.getTokenClaims(token);
+        // 인터셉터에서 검증한 claim 재사용, 인터셉터를 거치지 않은 요청만 직접 검증
+        Claims tokenClaims = (Claims) request.getAttribute(AuthenticationInterceptor.VERIFIED_CLAIMS);
+        if (tokenClaims == null) {
+            String authorizationHeader = request.getHeader("Authorization");
+            String token = authorizationHeader.split(" ")[1];
+            tokenClaims = verifiedTokenCache.getVerifiedClaims(token);
+        }
+
         Long userId = Long.valueOf((Integer) tokenClaims.get("userId"));
         String role = (String) tokenClaims.get("role");
 
@@ -0,0 +1,109 @@
+package com.tripj.api.login.service;
+
+import com.tripj.api.login.dto.OauthLoginDto;
+import com.tripj.domain.token.service.RefreshTokenService;
+import com.tripj.domain.user.constant.UserType;
+import com.tripj.domain.user.model.entity.User;
+import com.tripj.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cloud.contract.wiremock.AutoConfigureWireMock;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "kakao.api.url=http://localhost:${wiremock.server.port}")
+@AutoConfigureWireMock(port = 0)
+@ActiveProfiles("test")
+class OauthLoginServiceTest {
+
+    private static final String KAKAO_USER_INFO = """
+            {
+              "id": "1234567890",
+              "kakao_account": {
+                "email": "kakao@tripj.com",
+                "profile": {
+                  "nickname": "카카오",
+                  "thumbnail_image_url": "https://k.kakaocdn.net/thumb.jpg"
+                }
+              }
+            }
+            """;
+
+    @Autowired
+    private OauthLoginService oauthLoginService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @BeforeEach
+    void setUp() {
+        resetAllRequests();
+        stubFor(get(urlEqualTo("/v2/user/me"))
+                .willReturn(okJson(KAKAO_USER_INFO).withFixedDelay(200)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.findByEmail("kakao@tripj.com").ifPresent(user -> {
+            refreshTokenService.deleteAll(user.getId());
+            userRepository.delete(user);
+        });
+    }
+
+    @Test
+    @DisplayName("같은 카카오 토큰으로 다시 로그인하면 카카오 API 를 호출하지 않고 같은 회원으로 로그인한다.")
+    void oauthLoginCached() {
+        //given
+        String kakaoAccessToken = "kakao-token-cached";
+
+        //when
+        OauthLoginDto.Response first = oauthLoginService.oauthLogin(kakaoAccessToken, UserType.KAKAO);
+        OauthLoginDto.Response second = oauthLoginService.oauthLogin(kakaoAccessToken, UserType.KAKAO);
+
+        //then
+        verify(1, getRequestedFor(urlEqualTo("/v2/user/me"))
+                .withHeader("Authorization", equalTo("Bearer " + kakaoAccessToken)));
+        assertThat(first.getAccessToken()).isNotBlank();
+        assertThat(second.getAccessToken()).isNotBlank();
+        assertThat(userRepository.findByEmail("kakao@tripj.com")).isPresent();
+    }
+
+    @Test
+    @DisplayName("같은 카카오 토큰으로 동시에 로그인하면 카카오 API 는 한 번만 호출되고 회원도 한 명만 가입된다.")
+    void oauthLoginConcurrently() throws Exception {
+        //given
+        String kakaoAccessToken = "kakao-token-concurrent";
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        //when
+        List<Future<OauthLoginDto.Response>> futures = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            futures.add(executor.submit(() -> oauthLoginService.oauthLogin(kakaoAccessToken, UserType.KAKAO)));
+        }
+        for (Future<OauthLoginDto.Response> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        //then
+        verify(1, getRequestedFor(urlEqualTo("/v2/user/me")));
+        List<User> users = userRepository.findAll().stream()
+                .filter(user -> "kakao@tripj.com".equals(user.getEmail()))
+                .toList();
+        assertThat(users).hasSize(1);
+    }
+}
@@ -0,0 +1,117 @@
+package com.tripj.domain.board.repository;
+
+import com.tripj.domain.board.model.dto.response.GetBoardDetailResponse;
+import com.tripj.domain.board.model.entity.Board;
+import com.tripj.domain.boardcate.model.entity.BoardCate;
+import com.tripj.domain.boardcate.repository.BoardCateRepository;
+import com.tripj.domain.boardimg.model.entity.BoardImg;
+import com.tripj.domain.boardimg.repository.BoardImgRepository;
+import com.tripj.domain.user.constant.Role;
+import com.tripj.domain.user.constant.UserType;
+import com.tripj.domain.user.model.entity.User;
+import com.tripj.domain.user.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+class BoardRepositoryTest {
+
+    @Autowired
+    private BoardRepository boardRepository;
+    @Autowired
+    private BoardImgRepository boardImgRepository;
+    @Autowired
+    private BoardCateRepository boardCateRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private User user;
+    private BoardCate boardCate;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        user = User.builder()
+                .userType(UserType.KAKAO)
+                .email("asdf@naver.com")
+                .nickname("다람지기엽지")
+                .userName("홍길동")
+                .role(Role.ROLE_USER)
+                .build();
+        userRepository.save(user);
+
+        boardCate = BoardCate.builder()
+                .boardCateCode("REV")
+                .boardCateName("후기")
+                .build();
+        boardCateRepository.save(boardCate);
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        boardImgRepository.deleteAllInBatch();
+        boardRepository.deleteAllInBatch();
+        boardCateRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("게시글 상세와 이미지 url 을 한 번의 쿼리로 등록 순서대로 조회합니다.")
+    @Test
+    void getBoardDetailWithImages() {
+        //given
+        Board board = boardRepository.save(Board.newBoard("게시글 제목", "게시글 내용", user, boardCate));
+        boardImgRepository.save(BoardImg.newBoardImg("https://img/1.png", "image/1.png", board));
+        boardImgRepository.save(BoardImg.newBoardImg("https://img/2.png", "image/2.png", board));
+        statistics.clear();
+
+        //when
+        GetBoardDetailResponse boardDetail = boardRepository.getBoardDetail(board.getId());
+
+        //then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(boardDetail.getBoardId()).isEqualTo(board.getId());
+        assertThat(boardDetail.getBoardCateName()).isEqualTo("후기");
+        assertThat(boardDetail.getImgUrl())
+                .containsExactly("https://img/1.png", "https://img/2.png");
+    }
+
+    @DisplayName("이미지가 없는 게시글은 빈 이미지 목록으로 조회합니다.")
+    @Test
+    void getBoardDetailWithoutImages() {
+        //given
+        Board board = boardRepository.save(Board.newBoard("게시글 제목", "게시글 내용", user, boardCate));
+        statistics.clear();
+
+        //when
+        GetBoardDetailResponse boardDetail = boardRepository.getBoardDetail(board.getId());
+
+        //then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(boardDetail.getImgUrl()).isEmpty();
+    }
+
+    @DisplayName("존재하지 않는 게시글은 null 을 반환합니다.")
+    @Test
+    void getBoardDetailNotExistingBoard() {
+        //when
+        GetBoardDetailResponse boardDetail = boardRepository.getBoardDetail(0L);
+
+        //then
+        assertThat(boardDetail).isNull();
+    }
+}
@@ -1,6 +1,7 @@
 package com.tripj.domain.board.service;
 
 import com.tripj.domain.board.model.dto.request.CreateBoardRequest;
+import com.tripj.domain.board.model.dto.request.GetBoardRequest;
 import com.tripj.domain.board.model.dto.request.GetBoardSearchRequest;
 import com.tripj.domain.board.model.dto.response.*;
 import com.tripj.domain.board.repository.BoardRepository;
@@ -12,6 +13,7 @@ import com.tripj.domain.comment.service.CommentService;
 import com.tripj.domain.like.model.dto.request.CreateLikedBoardRequest;
 import com.tripj.domain.like.model.dto.response.CreateLikedBoardResponse;
 import com.tripj.domain.like.repository.LikedBoardRepository;
+import com.tripj.domain.like.service.LikeCountBuffer;
 import com.tripj.domain.like.service.LikedBoardService;
 import com.tripj.domain.user.constant.Role;
 import com.tripj.domain.user.constant.UserType;
@@ -19,9 +21,11 @@ import com.tripj.domain.user.model.entity.User;
 import com.tripj.domain.user.repository.UserRepository;
 import com.tripj.global.error.exception.ForbiddenException;
 import com.tripj.global.error.exception.NotFoundException;
+import com.tripj.global.model.CursorSlice;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.io.IOException;
@@ -50,6 +54,8 @@ class BoardServiceTest {
     private LikedBoardService likedBoardService;
     @Autowired
     private LikedBoardRepository likedBoardRepository;
+    @Autowired
+    private LikeCountBuffer likeCountBuffer;
 
     private User user;
     private BoardCate boardCate;
@@ -351,19 +357,24 @@ class BoardServiceTest {
             commentService.createComment(commentRequest2, user.getId());
 
             //when
-            List<GetBoardCommentResponse> boardComment = boardService.getBoardComment(board.getBoardId());
+            CursorSlice<GetBoardCommentResponse> boardComment = boardService.getBoardComment(
+                    board.getBoardId(), GetBoardRequest.of(null), PageRequest.of(0, 1));
+            CursorSlice<GetBoardCommentResponse> nextBoardComment = boardService.getBoardComment(
+                    board.getBoardId(), GetBoardRequest.of(boardComment.getNextCursor()), PageRequest.of(0, 1));
 
             //then
-            assertThat(boardComment).hasSize(2)
+            assertThat(boardComment.isHasNext()).isTrue();
+            assertThat(boardComment.getContent())
+                    .extracting("boardId", "content", "nickname")
+                    .containsExactly(tuple(board.getBoardId(), "댓글 내용", "다람지기엽지"));
+            assertThat(nextBoardComment.isHasNext()).isFalse();
+            assertThat(nextBoardComment.getContent())
                     .extracting("boardId", "content")
-                    .containsExactlyInAnyOrder(
-                            tuple(board.getBoardId(), "댓글 내용"),
-                            tuple(board.getBoardId(), "댓글 내용2")
-                    );
+                    .containsExactly(tuple(board.getBoardId(), "댓글 내용2"));
         }
 
         @Test
-        @DisplayName("존재하지 않는 게시글의 댓글 조회시 예외가 발생합니다.")
+        @DisplayName("존재하지 않는 게시글의 댓글 조회시 빈 목록을 반환합니다.")
         void getNotExistingBoardComment() throws Exception {
             //given
             CreateBoardRequest request = createBoardRequest("게시글 제목", "게시글 내용", boardCate.getId());
@@ -374,13 +385,44 @@ class BoardServiceTest {
             commentService.createComment(commentRequest, user.getId());
             commentService.createComment(commentRequest2, user.getId());
 
-            //when //then
-            assertThatThrownBy(() -> boardService.getBoardComment(2L))
-                    .isInstanceOf(NotFoundException.class)
-                    .hasMessage(E404_NOT_EXISTS_BOARD.getMessage());
+            //when
+            CursorSlice<GetBoardCommentResponse> boardComment = boardService.getBoardComment(
+                    0L, GetBoardRequest.of(null), PageRequest.of(0, 10));
+
+            //then
+            assertThat(boardComment.getContent()).isEmpty();
+            assertThat(boardComment.isHasNext()).isFalse();
         }
     }
 
+    @Test
+    @DisplayName("무한스크롤 다음 페이지는 커서 이후 게시글부터 조회합니다.")
+    void getBoardListScroll() throws Exception {
+        //given
+        CreateBoardResponse board = boardService.createBoard(
+                createBoardRequest("게시글 제목", "게시글 내용", boardCate.getId()), user.getId(), null);
+        CreateBoardResponse board2 = boardService.createBoard(
+                createBoardRequest("게시글 제목2", "게시글 내용2", boardCate.getId()), user.getId(), null);
+        CreateBoardResponse board3 = boardService.createBoard(
+                createBoardRequest("게시글 제목3", "게시글 내용3", boardCate.getId()), user.getId(), null);
+
+        //when
+        CursorSlice<GetBoardResponse> firstPage =
+                boardService.getBoardListScroll(GetBoardRequest.of(null), PageRequest.of(0, 2));
+        CursorSlice<GetBoardResponse> secondPage =
+                boardService.getBoardListScroll(GetBoardRequest.of(firstPage.getNextCursor()), PageRequest.of(0, 2));
+
+        //then
+        assertThat(firstPage.isHasNext()).isTrue();
+        assertThat(firstPage.getContent()).extracting("boardId")
+                .containsExactly(board3.getBoardId(), board2.getBoardId());
+
+        assertThat(secondPage.isHasNext()).isFalse();
+        assertThat(secondPage.getNextCursor()).isNull();
+        assertThat(secondPage.getContent()).extracting("boardId")
+                .containsExactly(board.getBoardId());
+    }
+
     @Test
     @DisplayName("(후기,질문,꿀팁) 카테고리별 게시글 전체 리스트 조회에 성공합니다.")
     void getBoardList() throws Exception {
@@ -401,7 +443,8 @@ class BoardServiceTest {
         boardService.createBoard(request3, user.getId(), null);
 
         //when
-        List<GetBoardResponse> boardList = boardService.getBoardList(boardCate.getId());
+        List<GetBoardResponse> boardList = boardService.getBoardList(
+                boardCate.getId(), GetBoardRequest.of(null), PageRequest.of(0, 10)).getContent();
 
         //then
         assertThat(boardList).hasSize(2)
@@ -423,7 +466,8 @@ class BoardServiceTest {
         CreateBoardResponse board2 = boardService.createBoard(request2, user.getId(), null);
 
         //when
-        List<GetBoardResponse> boardList = boardService.getBoardLatestList();
+        List<GetBoardResponse> boardList = boardService.getBoardLatestList(
+                GetBoardRequest.of(null), PageRequest.of(0, 10)).getContent();
 
         //then
         assertThat(boardList).hasSize(2)
@@ -447,7 +491,8 @@ class BoardServiceTest {
         boardService.createBoard(request2, user.getId(), null);
 
         //when
-        List<GetBoardResponse> boardList = boardService.getAllBoardList(new GetBoardSearchRequest("게시글"));
+        List<GetBoardResponse> boardList = boardService.getAllBoardList(
+                new GetBoardSearchRequest("게시글"), null, PageRequest.of(0, 10)).getContent();
 
         //then
         assertThat(boardList).hasSize(1)
@@ -457,6 +502,26 @@ class BoardServiceTest {
                 );
     }
 
+    @Test
+    @DisplayName("검색어 없이 전체 검색 조회하면 전체 게시글을 최신순으로 조회합니다.")
+    void getAllBoardListWithoutKeyword() throws Exception {
+        //given
+        CreateBoardRequest request = createBoardRequest("게시글 제목", "게시글 내용", boardCate.getId());
+        CreateBoardResponse board = boardService.createBoard(request, user.getId(), null);
+
+        CreateBoardRequest request2 = createBoardRequest("게시굴 제목", "게시굴 내용", boardCate.getId());
+        CreateBoardResponse board2 = boardService.createBoard(request2, user.getId(), null);
+
+        //when
+        List<GetBoardResponse> boardList = boardService.getAllBoardList(
+                new GetBoardSearchRequest(" "), null, PageRequest.of(0, 10)).getContent();
+
+        //then
+        assertThat(boardList)
+                .extracting("boardId")
+                .containsExactly(board2.getBoardId(), board.getBoardId());
+    }
+
     @Test
     @DisplayName("내 게시글 조회에 성공합니다.")
     void getMyBoardList() throws Exception {
@@ -477,7 +542,8 @@ class BoardServiceTest {
         boardService.createBoard(request2, user2.getId(), null);
 
         //when
-        List<GetBoardResponse> boardList = boardService.getMyBoardList(user.getId());
+        List<GetBoardResponse> boardList = boardService.getMyBoardList(
+                user.getId(), GetBoardRequest.of(null), PageRequest.of(0, 10)).getContent();
 
         //then
         assertThat(boardList).hasSize(1)
@@ -503,9 +569,12 @@ class BoardServiceTest {
         CreateLikedBoardResponse likedBoard = createLikedBoard("게시글 제목", "게시글 내용", user.getId());
         CreateLikedBoardResponse likedBoard2 = createLikedBoard("게시글 제목2", "게시글 내용2", user2.getId());
         likedBoardService.createLikedBoard(new CreateLikedBoardRequest(likedBoard.getBoardId()), user2.getId());
+        likeCountBuffer.flush();
+        boardService.reloadPopularBoards();
 
         //when
-        List<GetBoardResponse> boardPopularList = boardService.getBoardPopularList();
+        List<GetBoardResponse> boardPopularList = boardService.getBoardPopularList(
+                null, PageRequest.of(0, 10)).getContent();
 
         //then
         assertThat(boardPopularList).hasSize(2)
@@ -524,7 +593,8 @@ class BoardServiceTest {
         CreateLikedBoardResponse likedBoard2 = createLikedBoard("게시글 제목2", "게시글 내용2", user.getId());
 
         //when
-        List<GetBoardResponse> myLikedBoard = boardService.getMyLikedBoard(user.getId());
+        List<GetBoardResponse> myLikedBoard = boardService.getMyLikedBoard(
+                user.getId(), GetBoardRequest.of(null), PageRequest.of(0, 10)).getContent();
 
         //then
         assertThat(myLikedBoard).hasSize(2)
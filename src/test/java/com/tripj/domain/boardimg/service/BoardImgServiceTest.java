@@ -0,0 +1,170 @@
+package com.tripj.domain.boardimg.service;
+
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.tripj.domain.board.model.dto.request.CreateBoardRequest;
+import com.tripj.domain.board.model.dto.response.CreateBoardResponse;
+import com.tripj.domain.board.model.entity.Board;
+import com.tripj.domain.board.repository.BoardRepository;
+import com.tripj.domain.board.service.BoardService;
+import com.tripj.domain.boardcate.model.entity.BoardCate;
+import com.tripj.domain.boardcate.repository.BoardCateRepository;
+import com.tripj.domain.boardimg.model.entity.BoardImg;
+import com.tripj.domain.boardimg.repository.BoardImgRepository;
+import com.tripj.domain.user.constant.Role;
+import com.tripj.domain.user.constant.UserType;
+import com.tripj.domain.user.model.entity.User;
+import com.tripj.domain.user.repository.UserRepository;
+import com.tripj.global.error.exception.NotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.net.URL;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class BoardImgServiceTest {
+
+    @Autowired
+    private BoardService boardService;
+    @Autowired
+    private BoardRepository boardRepository;
+    @Autowired
+    private BoardImgRepository boardImgRepository;
+    @Autowired
+    private BoardCateRepository boardCateRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    @MockBean
+    private AmazonS3Client amazonS3Client;
+
+    /**
+     * 메모리 S3 (key -> 업로드 여부)
+     */
+    private final Map<String, Boolean> storage = new ConcurrentHashMap<>();
+
+    private User user;
+    private BoardCate boardCate;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        willAnswer(invocation -> {
+            PutObjectRequest request = invocation.getArgument(0);
+            storage.put(request.getKey(), true);
+            return null;
+        }).given(amazonS3Client).putObject(any(PutObjectRequest.class));
+        willAnswer(invocation -> {
+            DeleteObjectsRequest request = invocation.getArgument(0);
+            request.getKeys().forEach(key -> storage.remove(key.getKey()));
+            return null;
+        }).given(amazonS3Client).deleteObjects(any(DeleteObjectsRequest.class));
+        given(amazonS3Client.getUrl(anyString(), anyString())).willAnswer(invocation ->
+                new URL("https://bucket.test/" + invocation.getArgument(1)));
+
+        user = userRepository.save(User.builder()
+                .userType(UserType.KAKAO)
+                .email("asdf@naver.com")
+                .nickname("다람지기엽지")
+                .userName("홍길동")
+                .role(Role.ROLE_USER)
+                .build());
+
+        boardCate = boardCateRepository.save(BoardCate.builder()
+                .boardCateCode("REV")
+                .boardCateName("후기")
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        storage.clear();
+        boardImgRepository.deleteAllInBatch();
+        boardRepository.deleteAllInBatch();
+        boardCateRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("게시글 이미지를 병렬로 업로드하고 요청 순서대로 등록합니다.")
+    @Test
+    void createBoardWithImages() throws Exception {
+        //given
+        List<MultipartFile> images = List.of(image("a.png"), image("b.png"), image("c.png"));
+
+        //when
+        CreateBoardResponse response = boardService.createBoard(
+                createBoardRequest(boardCate.getId()), user.getId(), images);
+
+        //then
+        Board board = boardRepository.findById(response.getBoardId()).get();
+        List<BoardImg> boardImgs = boardImgRepository.findAllByBoard(board);
+        assertThat(storage).hasSize(3);
+        assertThat(boardImgs).hasSize(3)
+                .extracting(BoardImg::getPath)
+                .allMatch(storage::containsKey);
+        assertThat(boardImgs.get(0).getPath()).startsWith("image/a_");
+        assertThat(boardImgs.get(2).getPath()).startsWith("image/c_");
+    }
+
+    @DisplayName("게시글 저장에 실패하면 업로드한 이미지를 삭제합니다.")
+    @Test
+    void createBoardFailRemovesUploadedImages() {
+        //given
+        List<MultipartFile> images = List.of(image("a.png"), image("b.png"));
+
+        //when //then
+        assertThatThrownBy(() -> boardService.createBoard(
+                createBoardRequest(boardCate.getId()), 0L, images))
+                .isInstanceOf(NotFoundException.class);
+        assertThat(storage).isEmpty();
+        assertThat(boardImgRepository.count()).isZero();
+    }
+
+    @DisplayName("게시글 이미지 수정시 기존 이미지는 커밋 이후 삭제합니다.")
+    @Test
+    void updateBoardReplacesImages() throws Exception {
+        //given
+        CreateBoardResponse response = boardService.createBoard(
+                createBoardRequest(boardCate.getId()), user.getId(), List.of(image("a.png")));
+
+        //when
+        boardService.updateBoard(createBoardRequest(boardCate.getId()), response.getBoardId(),
+                user.getId(), List.of(image("b.png"), image("c.png")));
+
+        //then
+        assertThat(storage).hasSize(2)
+                .allSatisfy((key, uploaded) -> assertThat(key).doesNotStartWith("image/a_"));
+        assertThat(boardImgRepository.count()).isEqualTo(2);
+    }
+
+    private MockMultipartFile image(String fileName) {
+        return new MockMultipartFile("images", fileName, "image/png", new byte[]{1, 2, 3});
+    }
+
+    private CreateBoardRequest createBoardRequest(Long boardCateId) {
+        return CreateBoardRequest.builder()
+                .title("게시글 제목")
+                .content("게시글 내용")
+                .boardCateId(boardCateId)
+                .build();
+    }
+}
@@ -9,9 +9,14 @@ import com.tripj.domain.checklist.model.entity.CheckList;
 import com.tripj.domain.checklist.repository.CheckListRepository;
 import com.tripj.domain.country.model.entity.Country;
 import com.tripj.domain.country.repository.CountryRepository;
+import com.tripj.domain.item.catalog.ItemCatalog;
+import com.tripj.domain.item.constant.FixStatus;
+import com.tripj.domain.item.constant.ItemType;
 import com.tripj.domain.item.model.dto.request.CreateItemRequest;
 import com.tripj.domain.item.model.dto.response.CreateItemResponse;
+import com.tripj.domain.item.model.entity.FixedItem;
 import com.tripj.domain.item.model.entity.Item;
+import com.tripj.domain.item.repository.FixedItemRepository;
 import com.tripj.domain.item.repository.ItemRepository;
 import com.tripj.domain.item.service.ItemService;
 import com.tripj.domain.itemcate.model.entity.ItemCate;
@@ -53,6 +58,10 @@ class CheckListServiceTest {
     @Autowired
     private ItemRepository itemRepository;
     @Autowired
+    private FixedItemRepository fixedItemRepository;
+    @Autowired
+    private ItemCatalog itemCatalog;
+    @Autowired
     private ItemCateRepository itemCateRepository;
     @Autowired
     private CountryRepository countryRepository;
@@ -67,6 +76,7 @@ class CheckListServiceTest {
     private User user;
     private ItemCate itemCate;
     private Item item;
+    private FixedItem fixedItem;
 
     @BeforeEach
     void setUp() {
@@ -96,12 +106,20 @@ class CheckListServiceTest {
                 .build();
         itemRepository.save(item);
 
+        fixedItem = fixedItemRepository.save(FixedItem.builder()
+                .itemName("충전기")
+                .itemCate(itemCate)
+                .itemType(ItemType.FIXED)
+                .fixStatus(FixStatus.Y)
+                .build());
+        itemCatalog.reload();
     }
 
     @AfterEach
     void tearDown() {
         checkListRepository.deleteAllInBatch();
         itemRepository.deleteAllInBatch();
+        fixedItemRepository.deleteAllInBatch();
         itemCateRepository.deleteAllInBatch();
         tripRepository.deleteAllInBatch();
         countryRepository.deleteAllInBatch();
@@ -122,7 +140,7 @@ class CheckListServiceTest {
             CreateItemRequest itemRequest = createItemRequest("고데기", trip.getTripId());
             CreateItemResponse item = itemService.createItem(itemRequest, user.getId());
 
-            CreateCheckListRequest checkListRequest = createCheckListRequest(item.getItemId(), trip.getTripId());
+            CreateCheckListRequest checkListRequest = createCheckListRequest(item.getItemId(), trip.getTripId(), ItemType.USER_ADDED);
 
             //when
             CreateCheckListResponse checkList = checkListService.createCheckList(checkListRequest, user.getId());
@@ -145,7 +163,7 @@ class CheckListServiceTest {
             CreateItemRequest itemRequest = createItemRequest("고데기", trip.getTripId());
             CreateItemResponse item = itemService.createItem(itemRequest, user.getId());
 
-            CreateCheckListRequest checkListRequest = createCheckListRequest(item.getItemId(), trip.getTripId());
+            CreateCheckListRequest checkListRequest = createCheckListRequest(item.getItemId(), trip.getTripId(), ItemType.USER_ADDED);
             checkListService.createCheckList(checkListRequest, user.getId());
 
             //when //then
@@ -165,9 +183,9 @@ class CheckListServiceTest {
             CreateItemRequest itemRequest = createItemRequest("고데기", trip.getTripId());
             CreateItemResponse item = itemService.createItem(itemRequest, user.getId());
 
-            tripService.changeTripPrevious();
+            tripService.changeTripPrevious(LocalDate.now().plusDays(1));
 
-            CreateCheckListRequest checkListRequest = createCheckListRequest(item.getItemId(), trip.getTripId());
+            CreateCheckListRequest checkListRequest = createCheckListRequest(item.getItemId(), trip.getTripId(), ItemType.USER_ADDED);
 
             //when //then
             assertThatThrownBy(() -> checkListService.createCheckList(checkListRequest, user.getId()))
@@ -186,14 +204,74 @@ class CheckListServiceTest {
             CreateItemRequest itemRequest = createItemRequest("고데기", trip.getTripId());
             CreateItemResponse item = itemService.createItem(itemRequest, user.getId());
 
-            CreateCheckListRequest checkListRequest = createCheckListRequest(item.getItemId(), trip.getTripId());
+            CreateCheckListRequest checkListRequest = createCheckListRequest(item.getItemId(), trip.getTripId(), ItemType.USER_ADDED);
             checkListService.createCheckList(checkListRequest, user.getId());
-            CreateCheckListRequest checkListRequest2 = createCheckListRequest(item.getItemId(), trip.getTripId());
+            CreateCheckListRequest checkListRequest2 = createCheckListRequest(item.getItemId(), trip.getTripId(), ItemType.USER_ADDED);
 
             //when //then
             assertThatThrownBy(() -> checkListService.createCheckList(checkListRequest2, user.getId()))
                     .isInstanceOf(BusinessException.class)
                     .hasMessage(ErrorCode.ALREADY_EXISTS_CHECKLIST.getMessage());
+            assertThat(checkListRepository.findAll()).hasSize(1);
+        }
+
+        @Test
+        @DisplayName("고정 아이템을 체크리스트에 추가 합니다.")
+        void createCheckListFixedItem() {
+            //given
+            CreateTripRequest createTripRequest =
+                    createTripRequest(country.getId(), LocalDate.of(2022, 10, 1), LocalDate.now().plusDays(1));
+            CreateTripResponse trip = tripService.createTrip(createTripRequest, user.getId());
+
+            CreateCheckListRequest checkListRequest =
+                    createCheckListRequest(fixedItem.getId(), trip.getTripId(), ItemType.FIXED);
+
+            //when
+            CreateCheckListResponse checkList = checkListService.createCheckList(checkListRequest, user.getId());
+
+            //then
+            assertThat(checkList.getCheckListId()).isNotNull();
+            assertThat(checkList.getItemId()).isEqualTo(fixedItem.getId());
+            assertThat(checkList.getTripId()).isEqualTo(trip.getTripId());
+        }
+
+        @Test
+        @DisplayName("여행에서 숨긴 고정 아이템을 체크리스트에 추가시 예외가 발생합니다.")
+        void createCheckListHiddenFixedItem() {
+            //given
+            CreateTripRequest createTripRequest =
+                    createTripRequest(country.getId(), LocalDate.of(2022, 10, 1), LocalDate.now().plusDays(1));
+            CreateTripResponse trip = tripService.createTrip(createTripRequest, user.getId());
+
+            itemService.deleteItem(fixedItem.getId(), trip.getTripId(), ItemType.FIXED.name(), user.getId());
+
+            CreateCheckListRequest checkListRequest =
+                    createCheckListRequest(fixedItem.getId(), trip.getTripId(), ItemType.FIXED);
+
+            //when //then
+            assertThatThrownBy(() -> checkListService.createCheckList(checkListRequest, user.getId()))
+                    .isInstanceOf(NotFoundException.class)
+                    .hasMessage(ErrorCode.E404_NOT_EXISTS_ITEM.getMessage());
+            assertThat(checkListRepository.findAll()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("중복된 고정 아이템을 체크리스트에 추가시 예외가 발생합니다.")
+        void createCheckListExistingFixedItem() {
+            //given
+            CreateTripRequest createTripRequest =
+                    createTripRequest(country.getId(), LocalDate.of(2022, 10, 1), LocalDate.now().plusDays(1));
+            CreateTripResponse trip = tripService.createTrip(createTripRequest, user.getId());
+
+            CreateCheckListRequest checkListRequest =
+                    createCheckListRequest(fixedItem.getId(), trip.getTripId(), ItemType.FIXED);
+            checkListService.createCheckList(checkListRequest, user.getId());
+
+            //when //then
+            assertThatThrownBy(() -> checkListService.createCheckList(checkListRequest, user.getId()))
+                    .isInstanceOf(BusinessException.class)
+                    .hasMessage(ErrorCode.ALREADY_EXISTS_CHECKLIST.getMessage());
+            assertThat(checkListRepository.findAll()).hasSize(1);
         }
 
         @Test
@@ -216,7 +294,7 @@ class CheckListServiceTest {
             CreateItemRequest itemRequest = createItemRequest("고데기", trip.getTripId());
             CreateItemResponse item = itemService.createItem(itemRequest, user.getId());
 
-            CreateCheckListRequest checkListRequest = createCheckListRequest(item.getItemId(), trip.getTripId());
+            CreateCheckListRequest checkListRequest = createCheckListRequest(item.getItemId(), trip.getTripId(), ItemType.USER_ADDED);
             checkListService.createCheckList(checkListRequest, user.getId());
 
             //when //then
@@ -240,7 +318,7 @@ class CheckListServiceTest {
             CreateItemRequest itemRequest = createItemRequest("고데기", trip.getTripId());
             CreateItemResponse item = itemService.createItem(itemRequest, user.getId());
 
-            CreateCheckListRequest checkListRequest = createCheckListRequest(item.getItemId(), trip.getTripId());
+            CreateCheckListRequest checkListRequest = createCheckListRequest(item.getItemId(), trip.getTripId(), ItemType.USER_ADDED);
             CreateCheckListResponse checkList = checkListService.createCheckList(checkListRequest, user.getId());
 
             //when
@@ -261,7 +339,7 @@ class CheckListServiceTest {
             CreateItemRequest itemRequest = createItemRequest("고데기", trip.getTripId());
             CreateItemResponse item = itemService.createItem(itemRequest, user.getId());
 
-            CreateCheckListRequest checkListRequest = createCheckListRequest(item.getItemId(), trip.getTripId());
+            CreateCheckListRequest checkListRequest = createCheckListRequest(item.getItemId(), trip.getTripId(), ItemType.USER_ADDED);
             CreateCheckListResponse checkList = checkListService.createCheckList(checkListRequest, user.getId());
 
             //when //then
@@ -307,7 +385,7 @@ class CheckListServiceTest {
             CreateItemRequest itemRequest = createItemRequest("고데기", trip.getTripId());
             CreateItemResponse item = itemService.createItem(itemRequest, user.getId());
 
-            CreateCheckListRequest checkListRequest = createCheckListRequest(item.getItemId(), trip.getTripId());
+            CreateCheckListRequest checkListRequest = createCheckListRequest(item.getItemId(), trip.getTripId(), ItemType.USER_ADDED);
             CreateCheckListResponse checkList = checkListService.createCheckList(checkListRequest, user.getId());
 
             //when //then
@@ -331,7 +409,7 @@ class CheckListServiceTest {
             CreateItemRequest itemRequest = createItemRequest("고데기", trip.getTripId());
             CreateItemResponse item = itemService.createItem(itemRequest, user.getId());
 
-            CreateCheckListRequest checkListRequest = createCheckListRequest(item.getItemId(), trip.getTripId());
+            CreateCheckListRequest checkListRequest = createCheckListRequest(item.getItemId(), trip.getTripId(), ItemType.USER_ADDED);
             CreateCheckListResponse checkList = checkListService.createCheckList(checkListRequest, user.getId());
 
             //when
@@ -353,7 +431,7 @@ class CheckListServiceTest {
             CreateItemRequest itemRequest = createItemRequest("고데기", trip.getTripId());
             CreateItemResponse item = itemService.createItem(itemRequest, user.getId());
 
-            CreateCheckListRequest checkListRequest = createCheckListRequest(item.getItemId(), trip.getTripId());
+            CreateCheckListRequest checkListRequest = createCheckListRequest(item.getItemId(), trip.getTripId(), ItemType.USER_ADDED);
             CreateCheckListResponse checkList = checkListService.createCheckList(checkListRequest, user.getId());
 
             checkListService.packCheckList(checkList.getCheckListId(), user.getId());
@@ -381,7 +459,7 @@ class CheckListServiceTest {
 //        CreateItemRequest fixedItemRequest = createItemRequest("여권", trip.getTripId(), "F");
 //        CreateItemResponse fixedItem = itemService.createItem(fixedItemRequest, user.getId());
 
-        CreateCheckListRequest checkListRequest = createCheckListRequest(item.getItemId(), trip.getTripId());
+        CreateCheckListRequest checkListRequest = createCheckListRequest(item.getItemId(), trip.getTripId(), ItemType.USER_ADDED);
         checkListService.createCheckList(checkListRequest, user.getId());
 //        CreateCheckListRequest checkListRequest2 = createCheckListRequest(fixedItem.getItemId(), trip.getTripId());
 //        checkListService.createCheckList(checkListRequest2, user.getId());
@@ -398,10 +476,11 @@ class CheckListServiceTest {
                 );
     }
 
-    private CreateCheckListRequest createCheckListRequest(Long itemId, Long tripId) {
+    private CreateCheckListRequest createCheckListRequest(Long itemId, Long tripId, ItemType itemType) {
         return CreateCheckListRequest.builder()
                 .itemId(itemId)
                 .tripId(tripId)
+                .itemType(itemType)
                 .build();
     }
 
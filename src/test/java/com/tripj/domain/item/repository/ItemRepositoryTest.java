@@ -0,0 +1,296 @@
+package com.tripj.domain.item.repository;
+
+import com.tripj.domain.checklist.model.dto.request.CreateCheckListRequest;
+import com.tripj.domain.checklist.model.dto.response.GetItemListResponse;
+import com.tripj.domain.checklist.repository.CheckListRepository;
+import com.tripj.domain.checklist.service.CheckListService;
+import com.tripj.domain.country.model.entity.Country;
+import com.tripj.domain.country.repository.CountryRepository;
+import com.tripj.domain.item.catalog.ItemCatalog;
+import com.tripj.domain.item.constant.FixStatus;
+import com.tripj.domain.item.constant.ItemType;
+import com.tripj.domain.item.model.dto.request.CreateItemRequest;
+import com.tripj.domain.item.model.entity.FixedItem;
+import com.tripj.domain.item.model.entity.Item;
+import com.tripj.domain.item.service.ItemService;
+import com.tripj.domain.itemcate.model.entity.ItemCate;
+import com.tripj.domain.itemcate.repository.ItemCateRepository;
+import com.tripj.domain.trip.model.dto.request.CreateTripRequest;
+import com.tripj.domain.trip.model.entity.Trip;
+import com.tripj.domain.trip.repository.TripRepository;
+import com.tripj.domain.trip.service.TripService;
+import com.tripj.domain.user.constant.Role;
+import com.tripj.domain.user.constant.UserType;
+import com.tripj.domain.user.model.entity.User;
+import com.tripj.domain.user.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+class ItemRepositoryTest {
+
+    @Autowired
+    private TripService tripService;
+    @Autowired
+    private TripRepository tripRepository;
+    @Autowired
+    private ItemService itemService;
+    @Autowired
+    private ItemRepository itemRepository;
+    @Autowired
+    private FixedItemRepository fixedItemRepository;
+    @Autowired
+    private ItemCatalog itemCatalog;
+    @Autowired
+    private ItemCateRepository itemCateRepository;
+    @Autowired
+    private CountryRepository countryRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CheckListService checkListService;
+    @Autowired
+    private CheckListRepository checkListRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @SpyBean
+    private NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    private Country country;
+    private User user;
+    private ItemCate itemCate;
+    private FixedItem charger;
+    private FixedItem adapter;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        country = Country.builder()
+                .name("일본")
+                .build();
+        countryRepository.save(country);
+
+        user = User.builder()
+                .userType(UserType.KAKAO)
+                .email("asdf@naver.com")
+                .nickname("다람지기엽지")
+                .userName("홍길동")
+                .role(Role.ROLE_USER)
+                .build();
+        userRepository.save(user);
+
+        itemCate = ItemCate.builder()
+                .itemCateName("필수품")
+                .itemCateCode("ESS")
+                .build();
+        itemCateRepository.save(itemCate);
+
+        charger = fixedItemRepository.save(createFixedItem("충전기"));
+        adapter = fixedItemRepository.save(createFixedItem("멀티어댑터"));
+        itemCatalog.reload();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        checkListRepository.deleteAllInBatch();
+        itemRepository.deleteAllInBatch();
+        fixedItemRepository.deleteAllInBatch();
+        itemCateRepository.deleteAllInBatch();
+        tripRepository.deleteAllInBatch();
+        countryRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+        itemCatalog.reload();
+    }
+
+    @DisplayName("여행에서 숨긴 고정 아이템은 아이템 목록에서 제외 합니다.")
+    @Test
+    void getItemListWithoutHiddenFixedItem() {
+        // given
+        Long tripId = tripService.createTrip(
+                createTripRequest(country.getId(), LocalDate.of(2024, 6, 20), LocalDate.now().plusDays(1)),
+                user.getId()).getTripId();
+        itemService.deleteItem(charger.getId(), tripId, ItemType.FIXED.name(), user.getId());
+
+        // when
+        List<GetItemListResponse> itemList = itemService.getItemList(user.getId(), tripId);
+
+        // then
+        assertThat(itemList)
+                .extracting("itemId", "itemName", "itemType", "addStatus")
+                .containsExactly(tuple(adapter.getId(), "멀티어댑터", ItemType.FIXED, "NOT_YET"));
+    }
+
+    @DisplayName("체크리스트에 담은 고정 아이템은 ALREADY 로 조회 합니다.")
+    @Test
+    void getItemListCheckedFixedItem() {
+        // given
+        Long tripId = tripService.createTrip(
+                createTripRequest(country.getId(), LocalDate.of(2024, 6, 20), LocalDate.now().plusDays(1)),
+                user.getId()).getTripId();
+        checkListService.createCheckList(
+                createCheckListRequest(adapter.getId(), tripId, ItemType.FIXED), user.getId());
+
+        // when
+        List<GetItemListResponse> itemList = itemService.getItemList(user.getId(), tripId);
+
+        // then
+        assertThat(itemList)
+                .extracting("itemId", "addStatus")
+                .containsExactlyInAnyOrder(
+                        tuple(charger.getId(), "NOT_YET"),
+                        tuple(adapter.getId(), "ALREADY"));
+    }
+
+    @DisplayName("여행의 아이템과 고정 아이템 표시를 한 번의 쿼리로 조회 합니다.")
+    @Test
+    void getItemListSingleStatement() {
+        // given
+        Long tripId = tripService.createTrip(
+                createTripRequest(country.getId(), LocalDate.of(2024, 6, 20), LocalDate.now().plusDays(1)),
+                user.getId()).getTripId();
+        Long packed = itemService.createItem(createItemRequest("고데기", tripId), user.getId()).getItemId();
+        Long unpacked = itemService.createItem(createItemRequest("우산", tripId), user.getId()).getItemId();
+        checkListService.createCheckList(
+                createCheckListRequest(packed, tripId, ItemType.USER_ADDED), user.getId());
+        checkListService.createCheckList(
+                createCheckListRequest(adapter.getId(), tripId, ItemType.FIXED), user.getId());
+        itemService.deleteItem(charger.getId(), tripId, ItemType.FIXED.name(), user.getId());
+
+        statistics.clear();
+        clearInvocations(namedJdbcTemplate);
+
+        // when
+        List<GetItemListResponse> itemList = itemService.getItemList(user.getId(), tripId);
+
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        verify(namedJdbcTemplate, times(1))
+                .query(anyString(), any(SqlParameterSource.class), any(RowCallbackHandler.class));
+        assertThat(itemList)
+                .extracting("itemId", "itemType", "addStatus")
+                .containsExactlyInAnyOrder(
+                        tuple(packed, ItemType.USER_ADDED, "ALREADY"),
+                        tuple(unpacked, ItemType.USER_ADDED, "NOT_YET"),
+                        tuple(adapter.getId(), ItemType.FIXED, "ALREADY"));
+    }
+
+    @DisplayName("요청한 여행에 등록한 아이템만 조회 합니다.")
+    @Test
+    void getItemListOfRequestedTrip() {
+        // given
+        Long pastTripId = tripService.createTrip(
+                createTripRequest(country.getId(), LocalDate.of(2024, 6, 20), LocalDate.now()),
+                user.getId()).getTripId();
+        Long pastItemId = itemService.createItem(createItemRequest("고데기", pastTripId), user.getId()).getItemId();
+        tripService.changeTripPrevious(LocalDate.now().plusDays(1));
+
+        Long tripId = tripService.createTrip(
+                createTripRequest(country.getId(), LocalDate.of(2024, 6, 20), LocalDate.now().plusDays(1)),
+                user.getId()).getTripId();
+        Long itemId = itemService.createItem(createItemRequest("우산", tripId), user.getId()).getItemId();
+
+        // when
+        List<GetItemListResponse> pastItems = itemService.getItemList(user.getId(), pastTripId);
+        List<GetItemListResponse> items = itemService.getItemList(user.getId(), tripId);
+
+        // then
+        assertThat(pastItems)
+                .filteredOn(item -> item.getItemType() == ItemType.USER_ADDED)
+                .extracting("itemId")
+                .containsExactly(pastItemId);
+        assertThat(items)
+                .filteredOn(item -> item.getItemType() == ItemType.USER_ADDED)
+                .extracting("itemId")
+                .containsExactly(itemId);
+    }
+
+    @DisplayName("일괄 등록한 아이템의 ID 를 등록 순서대로 중복/누락 없이 반환 합니다.")
+    @Test
+    void batchInsert() {
+        // given
+        Long tripId = tripService.createTrip(
+                createTripRequest(country.getId(), LocalDate.of(2024, 6, 20), LocalDate.now().plusDays(1)),
+                user.getId()).getTripId();
+        Trip trip = tripRepository.findById(tripId).orElseThrow();
+        List<Item> items = IntStream.rangeClosed(1, 30)
+                .mapToObj(i -> {
+                    Item item = Item.newItem("세트 아이템" + i, user, itemCate, trip);
+                    item.updateItemType(ItemType.SET_ITEM);
+                    return item;
+                })
+                .toList();
+
+        // when
+        List<Long> ids = itemRepository.batchInsert(items);
+
+        // then
+        assertThat(ids).hasSize(items.size()).doesNotHaveDuplicates();
+        for (int i = 0; i < ids.size(); i++) {
+            String itemName = items.get(i).getItemName();
+            assertThat(itemRepository.findById(ids.get(i)))
+                    .hasValueSatisfying(saved -> assertThat(saved.getItemName()).isEqualTo(itemName));
+        }
+        assertThat(itemRepository.findAll()).extracting(Item::getId)
+                .containsExactlyInAnyOrderElementsOf(ids);
+    }
+
+    private FixedItem createFixedItem(String itemName) {
+        return FixedItem.builder()
+                .itemName(itemName)
+                .itemCate(itemCate)
+                .itemType(ItemType.FIXED)
+                .fixStatus(FixStatus.Y)
+                .build();
+    }
+
+    private CreateTripRequest createTripRequest(Long countryId, LocalDate startDate, LocalDate endDate) {
+        return CreateTripRequest.builder()
+                .startDate(startDate)
+                .endDate(endDate)
+                .countryId(countryId)
+                .build();
+    }
+
+    private CreateItemRequest createItemRequest(String itemName, Long tripId) {
+        return CreateItemRequest.builder()
+                .itemName(itemName)
+                .itemCateId(itemCate.getId())
+                .tripId(tripId)
+                .build();
+    }
+
+    private CreateCheckListRequest createCheckListRequest(Long itemId, Long tripId, ItemType itemType) {
+        return CreateCheckListRequest.builder()
+                .itemId(itemId)
+                .tripId(tripId)
+                .itemType(itemType)
+                .build();
+    }
+}
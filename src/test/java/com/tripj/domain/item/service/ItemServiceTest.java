@@ -1,91 +1,158 @@
-//package com.tripj.domain.item.service;
-//
-//import com.tripj.domain.country.model.entity.Country;
-//import com.tripj.domain.country.repository.CountryRepository;
-//import com.tripj.domain.item.model.dto.request.CreateItemRequest;
-//import com.tripj.domain.item.model.dto.request.UpdateItemRequest;
-//import com.tripj.domain.item.model.dto.response.CreateItemResponse;
-//import com.tripj.domain.item.model.dto.response.UpdateItemResponse;
-//import com.tripj.domain.item.repository.ItemRepository;
-//import com.tripj.domain.itemcate.model.entity.ItemCate;
-//import com.tripj.domain.itemcate.repository.ItemCateRepository;
-//import com.tripj.domain.trip.model.dto.request.CreateTripRequest;
-//import com.tripj.domain.trip.model.dto.response.CreateTripResponse;
-//import com.tripj.domain.trip.repository.TripRepository;
-//import com.tripj.domain.trip.service.TripService;
-//import com.tripj.domain.user.constant.Role;
-//import com.tripj.domain.user.constant.UserType;
-//import com.tripj.domain.user.model.entity.User;
-//import com.tripj.domain.user.repository.UserRepository;
-//import com.tripj.global.code.ErrorCode;
-//import com.tripj.global.error.exception.BusinessException;
-//import com.tripj.global.error.exception.ForbiddenException;
-//import com.tripj.global.error.exception.NotFoundException;
-//import org.junit.jupiter.api.*;
-//import org.springframework.beans.factory.annotation.Autowired;
-//import org.springframework.boot.test.context.SpringBootTest;
-//import org.springframework.test.context.ActiveProfiles;
-//
-//import java.time.LocalDate;
-//
-//import static org.assertj.core.api.Assertions.assertThat;
-//import static org.assertj.core.api.Assertions.assertThatThrownBy;
-//
-//@SpringBootTest
-//@ActiveProfiles("test")
-//class ItemServiceTest {
-//    @Autowired
-//    private TripService tripService;
-//    @Autowired
-//    private TripRepository tripRepository;
-//    @Autowired
-//    private ItemService itemService;
-//    @Autowired
-//    private ItemRepository itemRepository;
-//    @Autowired
-//    private ItemCateRepository itemCateRepository;
-//    @Autowired
-//    private CountryRepository countryRepository;
-//    @Autowired
-//    private UserRepository userRepository;
-//
-//    private Country country;
-//    private User user;
-//    private ItemCate itemCate;
-//
-//    @BeforeEach
-//    void setUp() {
-//        country = Country.builder()
-//                .name("일본")
-//                .code("JP")
-//                .build();
-//        countryRepository.save(country);
-//
-//        user = User.builder()
-//                .userType(UserType.KAKAO)
-//                .email("asdf@naver.com")
-//                .nickname("다람지기엽지")
-//                .userName("홍길동")
-//                .role(Role.ROLE_USER)
-//                .build();
-//        userRepository.save(user);
-//
-//        itemCate = ItemCate.builder()
-//                .itemCateName("필수품")
-//                .itemCateCode("ESS")
-//                .build();
-//        itemCateRepository.save(itemCate);
-//    }
-//
-//    @AfterEach
-//    void tearDown() {
-//        itemRepository.deleteAllInBatch();
-//        itemCateRepository.deleteAllInBatch();
-//        tripRepository.deleteAllInBatch();
-//        countryRepository.deleteAllInBatch();
-//        userRepository.deleteAllInBatch();
-//    }
-//
+package com.tripj.domain.item.service;
+
+import com.tripj.domain.checklist.model.dto.response.GetItemListResponse;
+import com.tripj.domain.country.model.entity.Country;
+import com.tripj.domain.country.repository.CountryRepository;
+import com.tripj.domain.item.catalog.ItemCatalog;
+import com.tripj.domain.item.constant.ItemType;
+import com.tripj.domain.item.constant.SetItemCate;
+import com.tripj.domain.item.model.dto.request.CreateSetItemRequest;
+import com.tripj.domain.item.model.entity.Item;
+import com.tripj.domain.item.repository.ItemRepository;
+import com.tripj.domain.itemcate.repository.ItemCateRepository;
+import com.tripj.domain.trip.model.dto.request.CreateTripRequest;
+import com.tripj.domain.trip.repository.TripRepository;
+import com.tripj.domain.trip.service.TripService;
+import com.tripj.domain.user.constant.Role;
+import com.tripj.domain.user.constant.UserType;
+import com.tripj.domain.user.model.entity.User;
+import com.tripj.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ItemServiceTest {
+    @Autowired
+    private TripService tripService;
+    @Autowired
+    private TripRepository tripRepository;
+    @Autowired
+    private ItemService itemService;
+    @Autowired
+    private ItemRepository itemRepository;
+    @Autowired
+    private ItemCateRepository itemCateRepository;
+    @Autowired
+    private ItemCatalog itemCatalog;
+    @Autowired
+    private CountryRepository countryRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Country country;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        country = Country.builder()
+                .name("일본")
+                .build();
+        countryRepository.save(country);
+
+        user = User.builder()
+                .userType(UserType.KAKAO)
+                .email("asdf@naver.com")
+                .nickname("다람지기엽지")
+                .userName("홍길동")
+                .role(Role.ROLE_USER)
+                .build();
+        userRepository.save(user);
+
+        // 세트 아이템은 카테고리 ID 1 ~ 3 을 사용한다.
+        jdbcTemplate.update("insert into item_cate (item_cate_id, item_cate_name, item_cate_code) values " +
+                "(1, '추천템', 'REC'), (2, '필수품', 'ESS'), (3, '의류', 'CLO')");
+        itemCatalog.reload();
+    }
+
+    @AfterEach
+    void tearDown() {
+        itemRepository.deleteAllInBatch();
+        itemCateRepository.deleteAllInBatch();
+        tripRepository.deleteAllInBatch();
+        countryRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+        itemCatalog.reload();
+    }
+
+    @Nested
+    class createSetItem {
+
+        @Test
+        @DisplayName("세트 아이템 등록시 반환한 ID 가 등록된 아이템과 일치합니다.")
+        void createSetItem() {
+            //given
+            Long tripId = tripService.createTrip(
+                    createTripRequest(country.getId(), LocalDate.of(2022, 10, 1), LocalDate.now().plusDays(1)),
+                    user.getId()).getTripId();
+
+            //when
+            List<GetItemListResponse> itemList =
+                    itemService.createSetItem(createSetItemRequest(tripId), user.getId(), SetItemCate.BASIC);
+
+            //then
+            assertSetItemsSaved(itemList);
+            assertThat(itemList)
+                    .filteredOn(item -> item.getItemType() == ItemType.SET_ITEM)
+                    .extracting("itemName", "itemCateId", "addStatus")
+                    .containsExactly(
+                            tuple("기본세트 예시1", 1L, "NOT_YET"),
+                            tuple("기본세트 예시2", 2L, "NOT_YET"),
+                            tuple("기본세트 예시3", 3L, "NOT_YET"));
+        }
+
+        @Test
+        @DisplayName("세트 아이템을 다시 등록하면 기존 세트 아이템을 새 세트로 교체합니다.")
+        void createSetItemTwice() {
+            //given
+            Long tripId = tripService.createTrip(
+                    createTripRequest(country.getId(), LocalDate.of(2022, 10, 1), LocalDate.now().plusDays(1)),
+                    user.getId()).getTripId();
+            itemService.createSetItem(createSetItemRequest(tripId), user.getId(), SetItemCate.BASIC);
+
+            //when
+            List<GetItemListResponse> itemList =
+                    itemService.createSetItem(createSetItemRequest(tripId), user.getId(), SetItemCate.MINIMAL);
+
+            //then
+            assertSetItemsSaved(itemList);
+            assertThat(itemList)
+                    .filteredOn(item -> item.getItemType() == ItemType.SET_ITEM)
+                    .extracting("itemName")
+                    .containsExactly("미니멀세트 예시1", "미니멀세트 예시2", "미니멀세트 예시3");
+        }
+
+        /**
+         * 반환한 세트 아이템 ID 가 중복/누락 없이 저장된 행과 같고, 같은 ID 의 행이 같은 이름인지 확인
+         */
+        private void assertSetItemsSaved(List<GetItemListResponse> itemList) {
+            Map<Long, GetItemListResponse> returned = itemList.stream()
+                    .filter(item -> item.getItemType() == ItemType.SET_ITEM)
+                    .collect(Collectors.toMap(GetItemListResponse::getItemId, Function.identity()));
+            List<Item> saved = itemRepository.findAll();
+
+            assertThat(returned).hasSize(3);
+            assertThat(saved).extracting(Item::getId)
+                    .containsExactlyInAnyOrderElementsOf(returned.keySet());
+            assertThat(saved).allSatisfy(item ->
+                    assertThat(item.getItemName()).isEqualTo(returned.get(item.getId()).getItemName()));
+        }
+    }
+
 //    @Test
 //    @DisplayName("현재 여혱 게획에 아이템을 등록합니다.")
 //    void createItemWhenPreviousIsNow()  {
@@ -111,7 +178,7 @@
 //        CreateTripRequest createTripRequest =
 //                createTripRequest(country.getId(), LocalDate.of(2022, 10, 1), LocalDate.now());
 //        CreateTripResponse trip = tripService.createTrip(createTripRequest, user.getId());
-//        tripService.changeTripPrevious();
+//        tripService.changeTripPrevious(LocalDate.now().plusDays(1));
 //
 //        CreateItemRequest itemRequest = createItemRequest("고데기", trip.getTripId());
 //
@@ -223,7 +290,7 @@
 //            CreateItemRequest itemRequest = createItemRequest("고데기", trip.getTripId());
 //            CreateItemResponse item = itemService.createItem(itemRequest, user.getId());
 //
-//            tripService.changeTripPrevious();
+//            tripService.changeTripPrevious(LocalDate.now().plusDays(1));
 //
 //            //when //then
 //            assertThatThrownBy(() -> itemService.deleteItem(item.getItemId(), user.getId()))
@@ -249,19 +316,18 @@
 //        }
 //    }
 //
-//    private CreateTripRequest createTripRequest(Long countryId, LocalDate startDate, LocalDate endDate) {
-//        return CreateTripRequest.builder()
-//                .startDate(startDate)
-//                .endDate(endDate)
-//                .countryId(countryId)
-//                .build();
-//    }
-//
-//    private CreateItemRequest createItemRequest(String itemName, Long tripId) {
-//        return CreateItemRequest.builder()
-//                .itemName(itemName)
-//                .itemCateId(itemCate.getId())
-//                .tripId(tripId)
-//                .build();
-//    }
-//}
\ No newline at end of file
+
+    private CreateTripRequest createTripRequest(Long countryId, LocalDate startDate, LocalDate endDate) {
+        return CreateTripRequest.builder()
+                .startDate(startDate)
+                .endDate(endDate)
+                .countryId(countryId)
+                .build();
+    }
+
+    private CreateSetItemRequest createSetItemRequest(Long tripId) {
+        return CreateSetItemRequest.builder()
+                .tripId(tripId)
+                .build();
+    }
+}
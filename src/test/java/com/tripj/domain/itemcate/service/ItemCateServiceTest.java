@@ -1,5 +1,6 @@
 package com.tripj.domain.itemcate.service;
 
+import com.tripj.domain.item.catalog.ItemCatalog;
 import com.tripj.domain.itemcate.model.dto.response.GetItemCateResponse;
 import com.tripj.domain.itemcate.model.entity.ItemCate;
 import com.tripj.domain.itemcate.repository.ItemCateRepository;
@@ -23,6 +24,8 @@ class ItemCateServiceTest {
     private ItemCateService itemCateService;
     @Autowired
     private ItemCateRepository itemCateRepository;
+    @Autowired
+    private ItemCatalog itemCatalog;
 
     @AfterEach
     void tearDown() {
@@ -37,6 +40,7 @@ class ItemCateServiceTest {
         ItemCate cate2 = createItemCate(2L, "필수품");
         ItemCate cate3 = createItemCate(3L, "의류");
         itemCateRepository.saveAll(List.of(cate1, cate2, cate3));
+        itemCatalog.reload();
 
         //when
         List<GetItemCateResponse> itemCate = itemCateService.getItemCate();
@@ -51,6 +55,22 @@ class ItemCateServiceTest {
                 );
     }
 
+    @Test
+    @DisplayName("카탈로그 데이터가 바뀌지 않았으면 재적재해도 버전이 유지됩니다.")
+    void reloadWithoutChange() {
+        //given
+        itemCateRepository.save(createItemCate(1L, "추천템"));
+        itemCatalog.reload();
+        long version = itemCatalog.snapshot().getVersion();
+
+        //when
+        boolean reloaded = itemCatalog.reload();
+
+        //then
+        assertThat(reloaded).isFalse();
+        assertThat(itemCatalog.snapshot().getVersion()).isEqualTo(version);
+    }
+
     private ItemCate createItemCate(Long itemCateId, String itemCate) {
         return ItemCate.builder()
                 .id(itemCateId)
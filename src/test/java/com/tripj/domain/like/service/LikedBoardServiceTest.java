@@ -39,6 +39,8 @@ class LikedBoardServiceTest {
     @Autowired
     private LikedBoardRepository likedBoardRepository;
     @Autowired
+    private LikeCountBuffer likeCountBuffer;
+    @Autowired
     private UserRepository userRepository;
     @Autowired
     private BoardCateRepository boardCateRepository;
@@ -92,6 +94,31 @@ class LikedBoardServiceTest {
             assertThat(likedBoard.getBoardId()).isEqualTo(likedBoard.getBoardId());
         }
 
+        @Test
+        @DisplayName("이미 누른 게시글에 다시 누르면 좋아요가 취소되고 좋아요 수에 반영됩니다.")
+        void toggleLikeBoard() throws Exception {
+            //given
+            CreateBoardRequest request = createBoardRequest("게시글 제목", "게시글 내용", boardCate.getId());
+            CreateBoardResponse response = boardService.createBoard(request, user.getId(), null);
+            CreateLikedBoardRequest likeRequest = new CreateLikedBoardRequest(response.getBoardId());
+
+            //when
+            CreateLikedBoardResponse liked = likedBoardService.createLikedBoard(likeRequest, user.getId());
+            likeCountBuffer.flush();
+            Long likeCount = boardRepository.findById(response.getBoardId()).get().getLikeCount();
+            CreateLikedBoardResponse unliked = likedBoardService.createLikedBoard(likeRequest, user.getId());
+            likeCountBuffer.flush();
+
+            //then
+            assertThat(liked.isLiked()).isTrue();
+            assertThat(liked.getLikedBoardId()).isNotNull();
+            assertThat(likeCount).isEqualTo(1L);
+            assertThat(unliked.isLiked()).isFalse();
+            assertThat(unliked.getLikedBoardId()).isNull();
+            assertThat(likedBoardRepository.count()).isZero();
+            assertThat(boardRepository.findById(response.getBoardId()).get().getLikeCount()).isZero();
+        }
+
         @Test
         @DisplayName("존재하지 않는 유저가 게시글 좋아요 누를시 예외가 발생합니다.")
         void createLikeBoardNotExistingUser() throws Exception {
@@ -0,0 +1,63 @@
+package com.tripj.domain.token.service;
+
+import com.tripj.domain.token.event.TokenRevokedEvent;
+import com.tripj.domain.user.constant.Role;
+import com.tripj.jwt.service.TokenManager;
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenRevocationListTest {
+
+    private static final Long USER_ID = 1L;
+
+    private final TokenManager tokenManager = new TokenManager(
+            "900000", "1209600000", "tripj-test-token-secret-tripj-test-token-secret-tripj-test-token-secret");
+
+    private final TokenRevocationList tokenRevocationList = new TokenRevocationList(null, tokenManager);
+
+    @Test
+    @DisplayName("로그아웃 직후(같은 초) 다시 발급한 accessToken 은 폐기로 보지 않는다.")
+    void notRevokedWhenIssuedAfterLogout() {
+        //given
+        Claims claims = issueAccessToken();
+        long issuedAtMillis = ((Number) claims.get(TokenManager.ISSUED_AT_MILLIS)).longValue();
+
+        //when
+        tokenRevocationList.onTokenRevoked(TokenRevokedEvent.of(USER_ID, toLocalDateTime(issuedAtMillis - 1)));
+
+        //then
+        assertThat(tokenRevocationList.isRevoked(USER_ID, claims)).isFalse();
+    }
+
+    @Test
+    @DisplayName("로그아웃 시각과 같거나 이전에 발급한 accessToken 은 폐기로 본다.")
+    void revokedWhenIssuedBeforeLogout() {
+        //given
+        Claims claims = issueAccessToken();
+        long issuedAtMillis = ((Number) claims.get(TokenManager.ISSUED_AT_MILLIS)).longValue();
+
+        //when
+        tokenRevocationList.onTokenRevoked(TokenRevokedEvent.of(USER_ID, toLocalDateTime(issuedAtMillis)));
+
+        //then
+        assertThat(tokenRevocationList.isRevoked(USER_ID, claims)).isTrue();
+        assertThat(tokenRevocationList.isRevoked(2L, claims)).isFalse();
+    }
+
+    private Claims issueAccessToken() {
+        String accessToken = tokenManager.createAccessToken(
+                USER_ID, Role.ROLE_USER, tokenManager.createAccessTokenExpireTime());
+        return tokenManager.getVerifiedClaims(accessToken);
+    }
+
+    private LocalDateTime toLocalDateTime(long epochMilli) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMilli), ZoneId.systemDefault());
+    }
+}
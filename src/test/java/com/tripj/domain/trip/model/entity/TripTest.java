@@ -0,0 +1,75 @@
+package com.tripj.domain.trip.model.entity;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.BitSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TripTest {
+
+    @Test
+    @DisplayName("진행중인 여행은 NOW, 지난 여행은 순번으로 분류합니다.")
+    void previousOf() {
+        //when //then
+        assertThat(Trip.previousOf(true, null)).isEqualTo("NOW");
+        assertThat(Trip.previousOf(false, 3)).isEqualTo("B03");
+    }
+
+    @Test
+    @DisplayName("순번이 없는 지난 여행은 분류할 수 없어 예외가 발생합니다.")
+    void previousOfWithoutTripSeq() {
+        //when //then
+        assertThatThrownBy(() -> Trip.previousOf(false, null))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("숨긴 고정 아이템만 숨김으로 표시됩니다.")
+    void hideFixedItem() {
+        //given
+        Trip trip = Trip.newTrip(LocalDate.now(), LocalDate.now().plusDays(1), null, null);
+
+        //when
+        trip.hideFixedItem(3L);
+        trip.hideFixedItem(5000L);
+
+        //then
+        assertThat(trip.isFixedItemHidden(3L)).isTrue();
+        assertThat(trip.isFixedItemHidden(5000L)).isTrue();
+        assertThat(trip.isFixedItemHidden(4L)).isFalse();
+        assertThat(trip.isFixedItemHidden(4999L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("비트셋 범위를 벗어난 고정 아이템 ID 는 숨기지 않은 것으로 봅니다.")
+    void isFixedItemHiddenOutOfRange() {
+        //given
+        Trip trip = Trip.newTrip(LocalDate.now(), LocalDate.now().plusDays(1), null, null);
+        trip.hideFixedItem(1L);
+
+        //when //then
+        assertThat(trip.isFixedItemHidden(Integer.MAX_VALUE + 2L)).isFalse();
+        assertThat(Trip.isHideableFixedItemId(Integer.MAX_VALUE)).isTrue();
+        assertThat(Trip.isHideableFixedItemId(Integer.MAX_VALUE + 1L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("숨김 비트셋은 저장 후 다시 읽어도 같습니다.")
+    void hiddenFixedItemsRoundTrip() {
+        //given
+        BitSet hidden = new BitSet();
+        hidden.set(7);
+        hidden.set(100_000);
+
+        //when
+        BitSet loaded = Trip.hiddenFixedItemsOf(Trip.toHiddenFixedItems(hidden));
+
+        //then
+        assertThat(loaded).isEqualTo(hidden);
+        assertThat(Trip.hiddenFixedItemsOf(null).isEmpty()).isTrue();
+    }
+}
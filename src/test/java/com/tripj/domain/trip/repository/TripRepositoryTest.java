@@ -3,12 +3,16 @@ package com.tripj.domain.trip.repository;
 import com.tripj.domain.country.model.entity.Country;
 import com.tripj.domain.country.repository.CountryRepository;
 import com.tripj.domain.trip.model.dto.request.CreateTripRequest;
-import com.tripj.domain.trip.model.entity.Trip;
+import com.tripj.domain.trip.model.dto.response.GetTripResponse;
 import com.tripj.domain.trip.service.TripService;
 import com.tripj.domain.user.constant.Role;
 import com.tripj.domain.user.constant.UserType;
 import com.tripj.domain.user.model.entity.User;
 import com.tripj.domain.user.repository.UserRepository;
+import com.tripj.global.error.exception.NotFoundException;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -21,9 +25,10 @@ import java.time.LocalDate;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.tuple;
 
-@SpringBootTest
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
 @ActiveProfiles("test")
 class TripRepositoryTest {
 
@@ -32,12 +37,17 @@ class TripRepositoryTest {
     @Autowired
     private TripRepository tripRepository;
     @Autowired
+    private TripBatchRepository tripBatchRepository;
+    @Autowired
     private UserRepository userRepository;
     @Autowired
     private CountryRepository countryRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
 
     private Country country;
     private User user;
+    private Statistics statistics;
 
     @BeforeEach
     void setUp() {
@@ -54,6 +64,8 @@ class TripRepositoryTest {
                 .role(Role.ROLE_USER)
                 .build();
         userRepository.save(user);
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
     }
 
     @AfterEach
@@ -63,44 +75,93 @@ class TripRepositoryTest {
         userRepository.deleteAllInBatch();
     }
 
-    @DisplayName("EndDate가 오늘 날짜이며, 진행중인 여행 계획들을 조회 합니다.")
+    @DisplayName("EndDate가 기준일 이전이며, 진행중인 여행 계획들을 조회 합니다.")
     @Test
-    void findAllPreviousIsNow() {
+    void findRolloverTargetIds() {
         //given
         CreateTripRequest createTripRequest =
                 createTripRequest(country.getId(), LocalDate.of(2024, 06, 20), LocalDate.now());
-        tripService.createTrip(createTripRequest, user.getId());
+        Long tripId = tripService.createTrip(createTripRequest, user.getId()).getTripId();
 
         // when
-        List<Trip> allPreviousIsNow = tripRepository.findAllPreviousIsNow();
+        List<Long> today = tripBatchRepository.findRolloverTargetIds(LocalDate.now(), 0L, 10);
+        List<Long> tomorrow = tripBatchRepository.findRolloverTargetIds(LocalDate.now().plusDays(1), 0L, 10);
 
         // then
-        assertThat(allPreviousIsNow).hasSize(1)
-                .extracting("startDate", "endDate", "tripName", "purpose", "previous")
-                .containsExactly(
-                        tuple(LocalDate.of(2024, 06, 20), LocalDate.now(), "즐거운 오사카 여행", "여행", "NOW")
-                );
+        assertThat(today).doesNotContain(tripId);
+        assertThat(tomorrow).contains(tripId);
     }
 
-    @DisplayName("여행 계획중 Previous 값이 제일 높은 여행 계획을 조회 합니다.")
+    @DisplayName("지난 여행 계획중 제일 높은 순번을 조회 합니다.")
     @Test
-    void findMaxPrevious() {
+    void findMaxTripSeq() {
         // given
         CreateTripRequest createTripRequest =
                 createTripRequest(country.getId(), LocalDate.of(2024, 06, 20), LocalDate.now());
         tripService.createTrip(createTripRequest, user.getId());
-        tripService.changeTripPrevious();
+        tripService.changeTripPrevious(LocalDate.now().plusDays(1));
 
         CreateTripRequest createTripRequest2 =
                 createTripRequest(country.getId(), LocalDate.of(2024, 06, 20), LocalDate.now());
         tripService.createTrip(createTripRequest2, user.getId());
-        tripService.changeTripPrevious();
+        tripService.changeTripPrevious(LocalDate.now().plusDays(1));
+
+        // when
+        Integer maxTripSeq = tripRepository.findMaxTripSeq(user.getId());
+
+        // then
+        assertThat(maxTripSeq).isEqualTo(2);
+    }
+
+    @DisplayName("진행중인 여행 계획을 한 번의 쿼리로 조회 합니다.")
+    @Test
+    void getTripSingleStatement() {
+        // given
+        CreateTripRequest createTripRequest =
+                createTripRequest(country.getId(), LocalDate.of(2024, 06, 20), LocalDate.now());
+        Long tripId = tripService.createTrip(createTripRequest, user.getId()).getTripId();
+        statistics.clear();
+
+        // when
+        GetTripResponse trip = tripService.getTrip(user.getId());
+
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(trip.getTripId()).isEqualTo(tripId);
+        assertThat(trip.getCountryId()).isEqualTo(country.getId());
+        assertThat(trip.getPrevious()).isEqualTo("NOW");
+    }
+
+    @DisplayName("진행중인 여행 계획이 없으면 한 번의 쿼리 후 예외가 발생합니다.")
+    @Test
+    void getTripNotExists() {
+        // given
+        statistics.clear();
+
+        // when // then
+        assertThatThrownBy(() -> tripService.getTrip(user.getId()))
+                .isInstanceOf(NotFoundException.class);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @DisplayName("지난 여행 계획을 한 번의 쿼리로 조회 합니다.")
+    @Test
+    void getPastTripSingleStatement() {
+        // given
+        CreateTripRequest createTripRequest =
+                createTripRequest(country.getId(), LocalDate.of(2024, 06, 20), LocalDate.now());
+        tripService.createTrip(createTripRequest, user.getId());
+        tripService.changeTripPrevious(LocalDate.now().plusDays(1));
+        statistics.clear();
 
         // when
-        String maxPrevious = tripRepository.findMaxPrevious(user.getId());
+        List<GetTripResponse> pastTrips = tripService.getPastTrip(user.getId());
 
         // then
-        assertThat(maxPrevious).isEqualTo("B02");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(pastTrips).hasSize(1)
+                .extracting("countryId", "countryName", "previous")
+                .containsExactly(tuple(country.getId(), "일본", "B01"));
     }
 
     private CreateTripRequest createTripRequest(Long countryId, LocalDate startDate, LocalDate endDate) {
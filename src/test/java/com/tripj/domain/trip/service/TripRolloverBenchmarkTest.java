@@ -0,0 +1,109 @@
+package com.tripj.domain.trip.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 여행 일괄 변경 성능 측정 (여행 100만 건)
+ * ./gradlew test --tests TripRolloverBenchmarkTest -Dbenchmark=true
+ */
+@Slf4j
+@SpringBootTest
+@ActiveProfiles("test")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class TripRolloverBenchmarkTest {
+
+    private static final int USERS = 100_000;
+    private static final int PAST_TRIPS_PER_USER = 9;
+    private static final int INSERT_BATCH_SIZE = 10_000;
+    private static final String TRIP_NAME = "benchmark";
+
+    @Autowired
+    private TripService tripService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final LocalDate today = LocalDate.now();
+
+    @BeforeEach
+    void setUp() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> users = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            users.add(new Object[]{"KAKAO", "benchmark-" + i + "@tripj.com", "bench", "benchmark-" + i, "ROLE_USER", now});
+            if (users.size() == INSERT_BATCH_SIZE) {
+                insertUsers(users);
+            }
+        }
+        insertUsers(users);
+
+        // 회원마다 지난 여행 9건(순번 1~9) + 어제 끝난 진행중 여행 1건
+        List<Object[]> trips = new ArrayList<>();
+        jdbcTemplate.query("select user_id from `user` where email like 'benchmark-%'", rs -> {
+            long userId = rs.getLong(1);
+            for (int seq = 1; seq <= PAST_TRIPS_PER_USER; seq++) {
+                trips.add(new Object[]{userId, false, seq, Date.valueOf(today.minusYears(1)), TRIP_NAME, now});
+            }
+            trips.add(new Object[]{userId, true, null, Date.valueOf(today.minusDays(1)), TRIP_NAME, now});
+            if (trips.size() >= INSERT_BATCH_SIZE) {
+                insertTrips(trips);
+            }
+        });
+        insertTrips(trips);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from trip where trip_name = ?", TRIP_NAME);
+        jdbcTemplate.update("delete from `user` where email like 'benchmark-%'");
+    }
+
+    @Test
+    @DisplayName("여행 100만 건 중 종료된 진행중 여행 10만 건을 지난 여행으로 변경한다.")
+    void changeTripPrevious() {
+        //given
+        long start = System.currentTimeMillis();
+
+        //when
+        long updated = tripService.changeTripPrevious(today);
+
+        //then
+        log.info("trip rollover benchmark. trips={}, updated={}, elapsed={}ms",
+                USERS * (PAST_TRIPS_PER_USER + 1), updated, System.currentTimeMillis() - start);
+        assertThat(updated).isEqualTo(USERS);
+        assertThat(jdbcTemplate.queryForObject(
+                "select count(*) from trip where trip_name = ? and is_current = false and trip_seq = 10", Long.class, TRIP_NAME))
+                .isEqualTo(USERS);
+    }
+
+    private void insertUsers(List<Object[]> users) {
+        jdbcTemplate.batchUpdate(
+                "insert into `user` (user_type, email, user_name, nickname, role, reg_time) values (?, ?, ?, ?, ?, ?)",
+                users);
+        users.clear();
+    }
+
+    private void insertTrips(List<Object[]> trips) {
+        jdbcTemplate.batchUpdate(
+                "insert into trip (user_id, is_current, trip_seq, end_date, trip_name, reg_time) values (?, ?, ?, ?, ?, ?)",
+                trips);
+        trips.clear();
+    }
+}
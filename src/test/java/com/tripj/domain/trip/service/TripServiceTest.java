@@ -118,7 +118,7 @@ class TripServiceTest {
         CreateTripResponse trip = tripService.createTrip(createTripRequest, user.getId());
 
         // when
-        tripService.changeTripPrevious();
+        tripService.changeTripPrevious(LocalDate.now().plusDays(1));
 
         // then
         Optional<Trip> updatedTrip = tripRepository.findById(trip.getTripId());
@@ -137,7 +137,7 @@ class TripServiceTest {
                         LocalDate.now());
         CreateTripResponse trip = tripService.createTrip(createTripRequest, user.getId());
 
-        tripService.changeTripPrevious();
+        tripService.changeTripPrevious(LocalDate.now().plusDays(1));
 
         CreateTripRequest createTripRequest2 =
                 createTripRequest(
@@ -148,7 +148,7 @@ class TripServiceTest {
         CreateTripResponse trip2 = tripService.createTrip(createTripRequest2, user.getId());
 
         // when
-        tripService.changeTripPrevious();
+        tripService.changeTripPrevious(LocalDate.now().plusDays(1));
 
         // then
         Optional<Trip> updatedTrip = tripRepository.findById(trip2.getTripId());
@@ -212,7 +212,7 @@ class TripServiceTest {
                         LocalDate.now());
         CreateTripResponse trip = tripService.createTrip(createTripRequest, user.getId());
 
-        tripService.changeTripPrevious();
+        tripService.changeTripPrevious(LocalDate.now().plusDays(1));
 
         CreateTripRequest createTripRequest2 =
                 createTripRequest(
@@ -222,7 +222,7 @@ class TripServiceTest {
 
         CreateTripResponse trip2 = tripService.createTrip(createTripRequest2, user.getId());
 
-        tripService.changeTripPrevious();
+        tripService.changeTripPrevious(LocalDate.now().plusDays(1));
 
         //when
         List<GetTripResponse> pastTrip = tripService.getPastTrip(user.getId());
@@ -246,7 +246,7 @@ class TripServiceTest {
                         LocalDate.now());
         CreateTripResponse trip = tripService.createTrip(createTripRequest, user.getId());
 
-        tripService.changeTripPrevious();
+        tripService.changeTripPrevious(LocalDate.now().plusDays(1));
 
         CreateTripRequest createTripRequest2 =
                 createTripRequest(
@@ -256,7 +256,7 @@ class TripServiceTest {
 
         CreateTripResponse trip2 = tripService.createTrip(createTripRequest2, user.getId());
 
-        tripService.changeTripPrevious();
+        tripService.changeTripPrevious(LocalDate.now().plusDays(1));
 
         //when
         GetTripCountResponse tripCount = tripService.getTripCount(user.getId());
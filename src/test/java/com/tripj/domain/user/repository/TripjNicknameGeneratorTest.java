@@ -0,0 +1,59 @@
+package com.tripj.domain.user.repository;
+
+import com.tripj.domain.user.constant.nickname.NicknameGenerationConstants;
+import com.tripj.domain.user.repository.nickname.TripjNicknameGenerator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TripjNicknameGeneratorTest {
+
+    private final TripjNicknameGenerator nicknameGenerator = new TripjNicknameGenerator(null);
+
+    @Test
+    @DisplayName("조합을 모두 쓸 때까지 중복 없이 할당하고, 이후에는 숫자를 붙여 할당한다.")
+    void generateUntilExhausted() {
+        //given
+        Set<String> combinations = new HashSet<>();
+        for (String prefix : NicknameGenerationConstants.PREFIX_NAMES) {
+            for (String animalName : NicknameGenerationConstants.ANIMAL_NAMES) {
+                combinations.add(prefix + animalName);
+            }
+        }
+
+        //when
+        Set<String> allocated = new HashSet<>();
+        for (int i = 0; i < combinations.size(); i++) {
+            allocated.add(nicknameGenerator.generate());
+        }
+        String suffixed = nicknameGenerator.generate();
+
+        //then
+        assertThat(allocated).isEqualTo(combinations);
+        assertThat(combinations).doesNotContain(suffixed);
+        assertThat(suffixed).matches(".*\\d+$");
+    }
+
+    @Test
+    @DisplayName("사용 중인 닉네임은 할당하지 않고, 반납한 닉네임은 다시 할당한다.")
+    void markTakenAndRelease() {
+        //given
+        String prefixed = NicknameGenerationConstants.PREFIX_NAMES[0] + NicknameGenerationConstants.ANIMAL_NAMES[0];
+        Set<String> allocated = new HashSet<>();
+        String nickname;
+        while (!(nickname = nicknameGenerator.generate()).matches(".*\\d+$")) {
+            allocated.add(nickname);
+        }
+
+        //when
+        nicknameGenerator.release(prefixed);
+
+        //then
+        assertThat(allocated).contains(prefixed);
+        assertThat(nicknameGenerator.generate()).isEqualTo(prefixed);
+    }
+}
@@ -0,0 +1,138 @@
+package com.tripj.global.config.jpa.migration;
+
+import com.tripj.domain.country.model.entity.Country;
+import com.tripj.domain.country.repository.CountryRepository;
+import com.tripj.domain.item.constant.FixStatus;
+import com.tripj.domain.item.constant.ItemType;
+import com.tripj.domain.item.model.entity.FixedItem;
+import com.tripj.domain.item.model.entity.Item;
+import com.tripj.domain.item.repository.FixedItemRepository;
+import com.tripj.domain.item.repository.ItemRepository;
+import com.tripj.domain.itemcate.model.entity.ItemCate;
+import com.tripj.domain.itemcate.repository.ItemCateRepository;
+import com.tripj.domain.trip.model.dto.request.CreateTripRequest;
+import com.tripj.domain.trip.model.entity.Trip;
+import com.tripj.domain.trip.repository.TripRepository;
+import com.tripj.domain.trip.service.TripService;
+import com.tripj.domain.user.constant.Role;
+import com.tripj.domain.user.constant.UserType;
+import com.tripj.domain.user.model.entity.User;
+import com.tripj.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class FixedItemTombstoneMigrationTest {
+
+    @Autowired
+    private FixedItemTombstoneMigration fixedItemTombstoneMigration;
+    @Autowired
+    private TripService tripService;
+    @Autowired
+    private TripRepository tripRepository;
+    @Autowired
+    private ItemRepository itemRepository;
+    @Autowired
+    private FixedItemRepository fixedItemRepository;
+    @Autowired
+    private ItemCateRepository itemCateRepository;
+    @Autowired
+    private CountryRepository countryRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    private Country country;
+    private User user;
+    private ItemCate itemCate;
+
+    @BeforeEach
+    void setUp() {
+        country = Country.builder()
+                .name("일본")
+                .build();
+        countryRepository.save(country);
+
+        user = User.builder()
+                .userType(UserType.KAKAO)
+                .email("asdf@naver.com")
+                .nickname("다람지기엽지")
+                .userName("홍길동")
+                .role(Role.ROLE_USER)
+                .build();
+        userRepository.save(user);
+
+        itemCate = ItemCate.builder()
+                .itemCateName("필수품")
+                .itemCateCode("ESS")
+                .build();
+        itemCateRepository.save(itemCate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        itemRepository.deleteAllInBatch();
+        fixedItemRepository.deleteAllInBatch();
+        itemCateRepository.deleteAllInBatch();
+        tripRepository.deleteAllInBatch();
+        countryRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("고정 아이템 삭제 표시 행을 회원의 모든 여행 숨김 비트셋으로 옮기고 지웁니다.")
+    @Test
+    void migrate() {
+        // given
+        tripService.createTrip(createTripRequest(LocalDate.now()), user.getId());
+        tripService.changeTripPrevious(LocalDate.now().plusDays(1));
+        tripService.createTrip(createTripRequest(LocalDate.now().plusDays(1)), user.getId());
+
+        FixedItem charger = fixedItemRepository.save(createFixedItem("충전기"));
+        FixedItem adapter = fixedItemRepository.save(createFixedItem("멀티어댑터"));
+        itemRepository.save(Item.builder()
+                .user(user)
+                .itemCate(itemCate)
+                .fixedItem(charger)
+                .fixedItemDelYN("Y")
+                .build());
+
+        // when
+        fixedItemTombstoneMigration.migrate();
+
+        // then
+        List<Trip> trips = tripRepository.findAll();
+        assertThat(trips).hasSize(2)
+                .allSatisfy(trip -> {
+                    assertThat(trip.isFixedItemHidden(charger.getId())).isTrue();
+                    assertThat(trip.isFixedItemHidden(adapter.getId())).isFalse();
+                });
+        assertThat(itemRepository.findAll()).isEmpty();
+    }
+
+    private FixedItem createFixedItem(String itemName) {
+        return FixedItem.builder()
+                .itemName(itemName)
+                .itemCate(itemCate)
+                .itemType(ItemType.FIXED)
+                .fixStatus(FixStatus.Y)
+                .build();
+    }
+
+    private CreateTripRequest createTripRequest(LocalDate endDate) {
+        return CreateTripRequest.builder()
+                .startDate(LocalDate.of(2024, 6, 20))
+                .endDate(endDate)
+                .countryId(country.getId())
+                .build();
+    }
+}